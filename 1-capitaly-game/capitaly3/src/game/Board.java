@@ -20,6 +20,9 @@ public class Board {
      */
 
     public void addField(Field field) {
+        if (field instanceof PropertyField) {
+            ((PropertyField) field).boardIndex = fields.size();
+        }
         fields.add(field);
     }
 
@@ -32,18 +35,24 @@ public class Board {
         return fields.get(index % fields.size());
     }
 
+    /**
+     * Method copy is responsible for creating a new board with copies of all fields in their initial state.
+     * @return
+     */
+    public Board copy() {
+        Board copy = new Board(fields.size());
+        for (Field field : fields) {
+            copy.addField(field.copy());
+        }
+        return copy;
+    }
+
     /**
      * Method releaseProperties is responsible for realeasing all the properties from the owner.
+     * The portfolio of the owner lists them, so the rest of the board is not visited.
      * @param owner
      */
     public void releaseProperties(Player owner) {
-        for (Field field : fields) {
-            if (field instanceof PropertyField) {
-                PropertyField property = (PropertyField) field;
-                if (property.getOwner() == owner) {
-                    property.release();
-                }
-            }
-        }
+        owner.getPortfolio().releaseAll();
     }
 }
@@ -0,0 +1,337 @@
+package game;
+
+import players.Player;
+import players.PlayerFactory;
+import players.RuleBasedPlayer;
+import players.StrategyRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The CompactGame class plays the same game as Game, but keeps the whole state in primitive arrays
+ * instead of Field and Player objects.
+ * A turn does not allocate anything and releasing the properties of a bankrupt player only visits
+ * the properties that player owns, so the same game can be replayed millions of times.
+ * Every rule mirrors the object model exactly, so both give the same results for the same dice.
+ * The strategies are copied into a table of numbers with one row per seat, so a purchase decision reads
+ * the row of the seat instead of calling into a strategy, and setRules can change a row between games.
+ */
+public class CompactGame {
+    static final byte PROPERTY = 0;
+    static final byte SERVICE = 1;
+    static final byte LUCKY = 2;
+
+    private static final int BUY_THRESHOLD = 0;
+    private static final int HOUSE_THRESHOLD = 1;
+    private static final int SKIP_CADENCE = 2;
+    private static final int RULE_SIZE = 3;
+
+    private static final int NO_OWNER = -1;
+    private static final int START_MONEY = 10000;
+    private static final int PROPERTY_COST = PropertyField.PROPERTY_COST;
+    private static final int HOUSE_COST = PropertyField.HOUSE_COST;
+    private static final int RENT = PropertyField.RENT;
+    private static final int HOUSE_RENT = PropertyField.HOUSE_RENT;
+
+    private final int fieldCount;
+    private final byte[] fieldTypes;
+    private final int[] fieldValues;
+    private final int[] owners;
+    private final boolean[] houses;
+
+    private final int playerCount;
+    private final String[] names;
+    private final int[] rules;
+    private final int[] money;
+    private final int[] positions;
+    private final boolean[] bankrupt;
+    private final int[] skipsLeft;
+    private final int[] propertyCounts;
+    private final long[][] ownedProperties;
+    private final int[] bankruptcyRounds;
+    private final int[] seatsInPlay;
+    private int playersInPlay;
+
+    private final int rounds;
+    private int roundsPlayed;
+    private DiceProvider dice;
+
+    /**
+     * Constructor CompactGame is responsible for copying the board, players and rounds of a not yet played game
+     * into primitive arrays.
+     * @param game the game whose board, players and rounds are copied
+     * @param dice the dice to roll
+     */
+    public CompactGame(Game game, DiceProvider dice) {
+        List<Field> fields = game.getBoard().fields;
+        fieldCount = fields.size();
+        fieldTypes = new byte[fieldCount];
+        fieldValues = new int[fieldCount];
+        owners = new int[fieldCount];
+        houses = new boolean[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            Field field = fields.get(i);
+            if (field instanceof PropertyField) {
+                fieldTypes[i] = PROPERTY;
+            } else if (field instanceof ServiceField) {
+                fieldTypes[i] = SERVICE;
+                fieldValues[i] = ((ServiceField) field).getCost();
+            } else if (field instanceof LuckyField) {
+                fieldTypes[i] = LUCKY;
+                fieldValues[i] = ((LuckyField) field).getReward();
+            } else {
+                throw new IllegalArgumentException("Unsupported field type: " + field.getClass().getName());
+            }
+        }
+
+        List<Player> seating = game.getSeating();
+        playerCount = seating.size();
+        names = new String[playerCount];
+        rules = new int[playerCount * RULE_SIZE];
+        for (int seat = 0; seat < playerCount; seat++) {
+            Player player = seating.get(seat);
+            names[seat] = player.getName();
+            setRules(seat, player instanceof RuleBasedPlayer
+                    ? ((RuleBasedPlayer) player).getRules() : PlayerFactory.getRules(player.getStrategy()));
+        }
+        money = new int[playerCount];
+        positions = new int[playerCount];
+        bankrupt = new boolean[playerCount];
+        skipsLeft = new int[playerCount];
+        propertyCounts = new int[playerCount];
+        ownedProperties = new long[playerCount][(fieldCount + 63) >>> 6];
+        bankruptcyRounds = new int[playerCount];
+        seatsInPlay = new int[playerCount];
+
+        rounds = game.getRounds();
+        this.dice = dice;
+        reset();
+    }
+
+    /**
+     * Method setRules is responsible for replacing the rules the player of a seat plays with in the following games.
+     * @param seat the seat of the player
+     * @param rules the rules to play with
+     */
+    public void setRules(int seat, StrategyRules rules) {
+        int row = seat * RULE_SIZE;
+        this.rules[row + BUY_THRESHOLD] = rules.getBuyThreshold();
+        this.rules[row + HOUSE_THRESHOLD] = rules.getHouseThreshold();
+        this.rules[row + SKIP_CADENCE] = rules.getSkipCadence();
+    }
+
+    /**
+     * Method reset is responsible for putting the board and every player back to the state at the start of the game,
+     * so the same instance can be played again without allocating.
+     */
+    public void reset() {
+        Arrays.fill(owners, NO_OWNER);
+        Arrays.fill(houses, false);
+        Arrays.fill(money, START_MONEY);
+        Arrays.fill(positions, 0);
+        Arrays.fill(bankrupt, false);
+        Arrays.fill(skipsLeft, 0);
+        Arrays.fill(propertyCounts, 0);
+        for (long[] owned : ownedProperties) {
+            Arrays.fill(owned, 0L);
+        }
+        Arrays.fill(bankruptcyRounds, -1);
+        for (int seat = 0; seat < playerCount; seat++) {
+            seatsInPlay[seat] = seat;
+        }
+        playersInPlay = playerCount;
+        roundsPlayed = 0;
+    }
+
+    /**
+     * Method setDice is responsible for replacing the dice rolled by the following games.
+     * @param dice the dice to roll
+     */
+    public void setDice(DiceProvider dice) {
+        this.dice = dice;
+    }
+
+    /**
+     * Method play is responsible for playing the game until the rounds run out or only one player is left,
+     * like Game.simulate().
+     */
+    public void play() {
+        int currentRound = 0;
+        while (currentRound < rounds && playersInPlay > 1) {
+            for (int i = 0; i < playersInPlay; i++) {
+                int seat = seatsInPlay[i];
+                takeTurn(seat, dice.roll());
+
+                if (bankrupt[seat]) {
+                    bankruptcyRounds[seat] = currentRound;
+                    releaseProperties(seat);
+                    System.arraycopy(seatsInPlay, i + 1, seatsInPlay, i, playersInPlay - i - 1);
+                    playersInPlay--;
+                    i--;
+                }
+            }
+            currentRound++;
+        }
+        roundsPlayed = currentRound;
+    }
+
+    private void takeTurn(int seat, int roll) {
+        int position = (positions[seat] + roll) % fieldCount;
+        positions[seat] = position;
+        switch (fieldTypes[position]) {
+            case PROPERTY:
+                int owner = owners[position];
+                if (owner == NO_OWNER) {
+                    considerBuying(seat, position);
+                } else if (owner != seat) {
+                    payRent(seat, owner, houses[position] ? HOUSE_RENT : RENT);
+                }
+                break;
+            case SERVICE:
+                payBank(seat, fieldValues[position]);
+                break;
+            case LUCKY:
+                money[seat] += fieldValues[position];
+                break;
+        }
+    }
+
+    /**
+     * Method considerBuying is responsible for applying the rules of the seat, like RuleBasedPlayer.considerBuying().
+     * @param seat
+     * @param field
+     */
+    private void considerBuying(int seat, int field) {
+        if (skipsLeft[seat] > 0) {
+            skipsLeft[seat]--;
+            return;
+        }
+        int row = seat * RULE_SIZE;
+        int available = money[seat];
+        if (owners[field] == NO_OWNER && available >= rules[row + BUY_THRESHOLD]) {
+            buy(seat, field);
+        } else if (owners[field] == seat && !houses[field] && available >= rules[row + HOUSE_THRESHOLD]) {
+            buildHouse(seat, field);
+        }
+        skipsLeft[seat] = rules[row + SKIP_CADENCE];
+    }
+
+    private void buy(int seat, int field) {
+        owners[field] = seat;
+        money[seat] -= PROPERTY_COST;
+        ownedProperties[seat][field >>> 6] |= 1L << field;
+        propertyCounts[seat]++;
+    }
+
+    private void buildHouse(int seat, int field) {
+        houses[field] = true;
+        money[seat] -= HOUSE_COST;
+    }
+
+    private void payRent(int seat, int owner, int amount) {
+        if (money[seat] >= amount) {
+            money[seat] -= amount;
+            money[owner] += amount;
+        } else {
+            bankrupt[seat] = true;
+        }
+    }
+
+    private void payBank(int seat, int amount) {
+        if (money[seat] >= amount) {
+            money[seat] -= amount;
+        } else {
+            bankrupt[seat] = true;
+        }
+    }
+
+    /**
+     * Method releaseProperties is responsible for releasing every property of a bankrupt player
+     * by walking only the set bits of its ownership bitset.
+     * @param seat
+     */
+    private void releaseProperties(int seat) {
+        long[] owned = ownedProperties[seat];
+        for (int word = 0; word < owned.length && propertyCounts[seat] > 0; word++) {
+            long bits = owned[word];
+            while (bits != 0) {
+                int field = (word << 6) + Long.numberOfTrailingZeros(bits);
+                owners[field] = NO_OWNER;
+                houses[field] = false;
+                propertyCounts[seat]--;
+                bits &= bits - 1;
+            }
+            owned[word] = 0L;
+        }
+    }
+
+    /**
+     * Method getWinner is responsible for finding the remaining player with the most money, like Game.getWinner().
+     * @return the seat of the winner, or -1 if nobody is left
+     */
+    public int getWinner() {
+        int winner = -1;
+        for (int i = 0; i < playersInPlay; i++) {
+            int seat = seatsInPlay[i];
+            if (winner == -1 || money[seat] > money[winner]) {
+                winner = seat;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Method getResults is responsible for describing the remaining players in the same format as printed by Game.startGame().
+     * @return one line per remaining player, in playing order
+     */
+    public List<String> getResults() {
+        List<String> results = new ArrayList<>(playersInPlay);
+        for (int i = 0; i < playersInPlay; i++) {
+            int seat = seatsInPlay[i];
+            results.add("Player: " + names[seat] + ", Money: " + money[seat] + ", Properties: " + propertyCounts[seat]);
+        }
+        return results;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getPlayersInPlay() {
+        return playersInPlay;
+    }
+
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    public int getBalance(int seat) {
+        return money[seat];
+    }
+
+    public int getPosition(int seat) {
+        return positions[seat];
+    }
+
+    public int getPropertyCount(int seat) {
+        return propertyCounts[seat];
+    }
+
+    public boolean isBankrupt(int seat) {
+        return bankrupt[seat];
+    }
+
+    public int getBankruptcyRound(int seat) {
+        return bankruptcyRounds[seat];
+    }
+
+    public int getOwner(int field) {
+        return owners[field];
+    }
+
+    public int getRoundsPlayed() {
+        return roundsPlayed;
+    }
+}
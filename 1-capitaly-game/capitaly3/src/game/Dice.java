@@ -1,14 +1,27 @@
 package game;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
 
 
-public class Dice {
-    private final List<Integer> rolls;
+public class Dice implements DiceProvider {
+    private int[] rolls;
+    private int numberOfRolls;
+    private final ByteBuffer mappedRolls;
+    private final boolean binary;
     private int currentRollIndex;
 
     /**
@@ -17,11 +30,118 @@ public class Dice {
      * @throws IOException
      */
     public Dice(String filePath) throws IOException {
-        this.rolls = new ArrayList<>();
+        this.rolls = new int[16];
+        this.numberOfRolls = 0;
+        this.mappedRolls = null;
+        this.binary = false;
         this.currentRollIndex = 0;
         readDiceRollsFromFile(filePath);
     }
 
+    /**
+     * Constructor Dice is responsible for replaying an already prepared list of rolls.
+     * @param rolls
+     */
+    public Dice(List<Integer> rolls) {
+        this.rolls = new int[rolls.size()];
+        for (int i = 0; i < this.rolls.length; i++) {
+            this.rolls[i] = rolls.get(i);
+        }
+        this.numberOfRolls = this.rolls.length;
+        this.mappedRolls = null;
+        this.binary = false;
+        this.currentRollIndex = 0;
+    }
+
+    /**
+     * Constructor Dice is responsible for replaying rolls straight from a memory-mapped file.
+     * @param mappedRolls
+     * @param binary whether the file holds one byte per roll instead of one number per line
+     */
+    private Dice(ByteBuffer mappedRolls, boolean binary) {
+        this.rolls = null;
+        this.numberOfRolls = 0;
+        this.mappedRolls = mappedRolls;
+        this.binary = binary;
+        this.currentRollIndex = 0;
+    }
+
+    /**
+     * Method mapped is responsible for creating dice that read the usual text file (one roll per line)
+     * through a memory mapping. The rolls are parsed one by one when they are rolled,
+     * so even huge files are ready immediately and take no heap.
+     * @param filePath
+     * @return
+     * @throws IOException
+     */
+    public static Dice mapped(String filePath) throws IOException {
+        return new Dice(map(filePath), false);
+    }
+
+    /**
+     * Method mappedBinary is responsible for creating dice that read a packed binary file
+     * (one unsigned byte per roll) through a memory mapping.
+     * @param filePath
+     * @return
+     * @throws IOException
+     */
+    public static Dice mappedBinary(String filePath) throws IOException {
+        return new Dice(map(filePath), true);
+    }
+
+    /**
+     * Method map is responsible for mapping the whole file into memory as read-only.
+     * @param filePath
+     * @return
+     * @throws IOException
+     */
+    private static ByteBuffer map(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IOException("Dice file " + filePath + " contains no rolls");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Dice file " + filePath + " is too large to be mapped: " + size + " bytes");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Method writeBinary is responsible for converting a text dice file (one roll per line)
+     * into the packed binary format read by mappedBinary.
+     * @param textFilePath
+     * @param binaryFilePath
+     * @return the number of rolls written
+     * @throws IOException if a roll does not fit into one byte
+     */
+    public static long writeBinary(String textFilePath, String binaryFilePath) throws IOException {
+        long written = 0;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(textFilePath));
+             OutputStream out = new BufferedOutputStream(new FileOutputStream(binaryFilePath))) {
+            int value = -1;
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c >= '0' && c <= '9') {
+                    value = (value < 0 ? 0 : value * 10) + (c - '0');
+                    if (value > 255) {
+                        throw new IOException("Roll number " + (written + 1) + " does not fit into one byte");
+                    }
+                } else if (value >= 0) {
+                    out.write(value);
+                    written++;
+                    value = -1;
+                }
+            }
+            if (value >= 0) {
+                out.write(value);
+                written++;
+            }
+        }
+        return written;
+    }
+
     /**
      * Method readDiceRollsFromFile is responsible for reading list of rolls from the file.
      * @param filePath
@@ -31,21 +151,105 @@ public class Dice {
         BufferedReader br = new BufferedReader(new FileReader(filePath));
         String line;
         while ((line = br.readLine()) != null) {
-            rolls.add(Integer.parseInt(line.trim()));
+            if (numberOfRolls == rolls.length) {
+                rolls = Arrays.copyOf(rolls, rolls.length * 2);
+            }
+            rolls[numberOfRolls++] = Integer.parseInt(line.trim());
         }
         br.close();
     }
 
     /**
      * Method roll is responsible for getting values from the list.
+     * After the last roll it starts again from the first one.
      * @return
      */
+    @Override
     public int roll() {
-        if (currentRollIndex < rolls.size()) {
-            return rolls.get(currentRollIndex++);
+        if (mappedRolls != null) {
+            return binary ? rollBinary() : rollText();
+        }
+        if (currentRollIndex < numberOfRolls) {
+            return rolls[currentRollIndex++];
         } else {
             currentRollIndex = 0;
-            return rolls.get(currentRollIndex++);
+            if (numberOfRolls == 0) {
+                throw new IndexOutOfBoundsException("There are no rolls to replay");
+            }
+            return rolls[currentRollIndex++];
+        }
+    }
+
+    /**
+     * Method getCursor is responsible for returning the index of the next roll,
+     * or for a mapped file the position of its next byte.
+     * @return
+     */
+    @Override
+    public long getCursor() {
+        return currentRollIndex;
+    }
+
+    /**
+     * Method setCursor is responsible for continuing from a cursor returned by getCursor.
+     * @param cursor
+     */
+    @Override
+    public void setCursor(long cursor) {
+        int length = mappedRolls != null ? mappedRolls.limit() : numberOfRolls;
+        if (cursor < 0 || cursor > length) {
+            throw new IllegalArgumentException("Cursor " + cursor + " is outside of the rolls: " + length);
+        }
+        currentRollIndex = (int) cursor;
+    }
+
+    /**
+     * Method rollBinary is responsible for reading the next byte of the mapped file.
+     * @return
+     */
+    private int rollBinary() {
+        if (currentRollIndex >= mappedRolls.limit()) {
+            currentRollIndex = 0;
+        }
+        return mappedRolls.get(currentRollIndex++) & 0xFF;
+    }
+
+    /**
+     * Method rollText is responsible for parsing the next number of the mapped text file,
+     * where currentRollIndex is the position of the next unread byte.
+     * @return
+     */
+    private int rollText() {
+        int limit = mappedRolls.limit();
+        boolean wrapped = false;
+        while (true) {
+            if (currentRollIndex >= limit) {
+                if (wrapped) {
+                    throw new IllegalStateException("Dice file contains no rolls");
+                }
+                currentRollIndex = 0;
+                wrapped = true;
+            }
+            byte c = mappedRolls.get(currentRollIndex);
+            if ((c >= '0' && c <= '9') || c == '-') {
+                break;
+            }
+            currentRollIndex++;
+        }
+
+        boolean negative = mappedRolls.get(currentRollIndex) == '-';
+        if (negative) {
+            currentRollIndex++;
+        }
+        int value = 0;
+        while (currentRollIndex < limit) {
+            byte c = mappedRolls.get(currentRollIndex);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+            currentRollIndex++;
         }
+        return negative ? -value : value;
     }
 }
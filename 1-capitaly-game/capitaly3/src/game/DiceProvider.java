@@ -0,0 +1,26 @@
+package game;
+
+/**
+ * The DiceProvider interface is implemented by everything the players can roll with.
+ * Implementations must not allocate per roll and must give the same rolls again when created the same way.
+ */
+public interface DiceProvider {
+    /**
+     * Method roll is responsible for returning the next roll.
+     * @return
+     */
+    int roll();
+
+    /**
+     * Method getCursor is responsible for returning where the dice are in their sequence of rolls,
+     * so that setCursor can later continue from there, for example when a game is restored from a snapshot.
+     * @return
+     */
+    long getCursor();
+
+    /**
+     * Method setCursor is responsible for continuing the rolls from a cursor returned by getCursor.
+     * @param cursor
+     */
+    void setCursor(long cursor);
+}
@@ -9,4 +9,11 @@ public abstract class Field {
      * @param player
      */
     public abstract void landOn(Player player);
+
+    /**
+     * Abstract method is responsible to create a new field of the same type and configuration,
+     * without anything that happened on it during a game.
+     * @return
+     */
+    public abstract Field copy();
 }
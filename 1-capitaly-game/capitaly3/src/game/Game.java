@@ -7,8 +7,12 @@ import java.util.*;
 public class Game {
     private Board board;
     private List<Player> players;
+    private List<Player> seating;
+    private int[] bankruptcyRounds;
     private int rounds;
-    private Dice dice;
+    private int currentRound;
+    private DiceProvider dice;
+    private GameEventSink eventSink;
 
     /**
      * Constructor Game is responsible for reading input data of the game,
@@ -18,51 +22,81 @@ public class Game {
      * @throws IOException
      */
     public Game(String gameFile, String diceFile) throws IOException {
-        BufferedReader br = new BufferedReader(new FileReader(gameFile));
-        int numberOfFields = Integer.parseInt(br.readLine());
-        board = new Board(numberOfFields);
-
-        for (int i = 0; i < numberOfFields; i++) {
-            String[] fieldInfo = br.readLine().split(" ");
-            switch (fieldInfo[0]) {
-                case "P":
-                    board.addField(new PropertyField());
-                    break;
-                case "S":
-                    int serviceCost = Integer.parseInt(fieldInfo[1]);
-                    board.addField(new ServiceField(serviceCost));
-                    break;
-                case "L":
-                    int luckyReward = Integer.parseInt(fieldInfo[1]);
-                    board.addField(new LuckyField(luckyReward));
-                    break;
-            }
-        }
+        this(gameFile, new Dice(diceFile));
+    }
 
-        int numberOfPlayers = Integer.parseInt(br.readLine());
-        players = new ArrayList<>();
-
-        for (int i = 0; i < numberOfPlayers; i++) {
-            String[] playerInfo = br.readLine().split(" ");
-            String playerName = playerInfo[0];
-            String strategy = playerInfo[1];
-            switch (strategy) {
-                case "Greedy":
-                    players.add(new players.GreedyPlayer(playerName));
-                    break;
-                case "Careful":
-                    players.add(new players.CarefulPlayer(playerName));
-                    break;
-                case "Tactical":
-                    players.add(new players.TacticalPlayer(playerName));
-                    break;
-            }
-        }
+    /**
+     * Constructor Game is responsible for reading input data of the game,
+     * adding according fields, players to the board, and rolling the given dice.
+     * The game file can be in the text format or in the binary format of GameFileParser.
+     * @param gameFile
+     * @param dice
+     * @throws IOException if the game file cannot be read or is not valid
+     */
+    public Game(String gameFile, DiceProvider dice) throws IOException {
+        this(GameFileParser.read(gameFile), dice);
+    }
 
-        rounds = Integer.parseInt(br.readLine());
-        br.close();
+    /**
+     * Constructor Game is responsible for creating a game from a parsed game file.
+     * @param parser
+     * @param dice
+     */
+    private Game(GameFileParser parser, DiceProvider dice) {
+        this(parser.getBoard(), parser.getPlayers(), parser.getRounds(), dice);
+    }
+
+    /**
+     * Constructor Game is responsible for creating a game from an already prepared board and players.
+     * @param board
+     * @param players
+     * @param rounds
+     * @param dice
+     */
+    private Game(Board board, List<Player> players, int rounds, DiceProvider dice) {
+        this.board = board;
+        this.players = players;
+        this.rounds = rounds;
+        this.dice = dice;
+        initializeSeating();
+    }
+
+    /**
+     * Method initializeSeating is responsible for remembering the starting order of the players,
+     * so that results can be reported per seat after players are removed from the game.
+     */
+    private void initializeSeating() {
+        seating = new ArrayList<>(players);
+        setEventSink(null);
+        bankruptcyRounds = new int[seating.size()];
+        Arrays.fill(bankruptcyRounds, -1);
+    }
+
+    /**
+     * Method copy is responsible for creating a fresh, not yet played game with the same board,
+     * players and number of rounds, but rolling the given dice.
+     * The template itself is not modified, so one parsed game can be copied many times.
+     * @param dice
+     * @return
+     */
+    public Game copy(DiceProvider dice) {
+        List<Player> playerCopies = new ArrayList<>(seating.size());
+        for (Player player : seating) {
+            playerCopies.add(player.copy());
+        }
+        return new Game(board.copy(), playerCopies, rounds, dice);
+    }
 
-        dice = new Dice(diceFile);
+    /**
+     * Method copy is responsible for creating a fresh, not yet played game with the same board and number of rounds,
+     * but with other players, seated in the given order, and rolling the given dice.
+     * The template itself is not modified, so one parsed board can be played by many seatings.
+     * @param players new players that have not played yet
+     * @param dice
+     * @return
+     */
+    public Game copy(List<Player> players, DiceProvider dice) {
+        return new Game(board.copy(), new ArrayList<>(players), rounds, dice);
     }
 
     /**
@@ -70,23 +104,197 @@ public class Game {
      * players moving around the board, and rolling a Dice by triggering roll method.
      */
     public void startGame() {
-        int currentRound = 0;
-        while (currentRound < rounds && players.size() > 1) {
+        play(true, rounds);
+        printResults();
+    }
+
+    /**
+     * Method simulate is responsible for playing the game the same way as startGame,
+     * but without printing anything, so it can be repeated many times.
+     */
+    public void simulate() {
+        play(false, rounds);
+    }
+
+    /**
+     * Method simulateUntil is responsible for playing without printing until the given round is about to start,
+     * so that a snapshot can be taken there. simulate continues the game afterwards.
+     * @param round the round, starting from 0, before which the game stops
+     */
+    public void simulateUntil(int round) {
+        play(false, Math.min(round, rounds));
+    }
+
+    /**
+     * Method play is responsible for moving the players around the board from the current round
+     * until the last round, or until only one player is left.
+     * @param verbose whether bankruptcies are printed out
+     * @param lastRound the round before which the game stops
+     */
+    private void play(boolean verbose, int lastRound) {
+        int[] seats = new int[players.size()];
+        for (int i = 0; i < seats.length; i++) {
+            seats[i] = seatOf(players.get(i));
+        }
+        while (currentRound < lastRound && players.size() > 1) {
+            eventSink.roundStarted(currentRound);
             for (int i = 0; i < players.size(); i++) {
                 Player player = players.get(i);
-                int roll = dice.roll();
-                player.move(roll, board);
+                player.move(dice.roll(), board);
 
                 if (player.isBankrupt()) {
-                    System.out.println(player.getName() + " is bankrupt and removed from the game.");
+                    if (verbose) {
+                        System.out.println(player.getName() + " is bankrupt and removed from the game.");
+                    }
+                    int seat = seats[i];
+                    bankruptcyRounds[seat] = currentRound;
                     board.releaseProperties(player);
-                    players.remove(i--);
+                    players.remove(i);
+                    System.arraycopy(seats, i + 1, seats, i, players.size() - i);
+                    i--;
+                    eventSink.bankrupt(seat);
                 }
             }
             currentRound++;
         }
+    }
 
-        printResults();
+    /**
+     * Method seatOf is responsible for finding the seat of a player by identity,
+     * which is cheaper than List.indexOf with its calls to equals.
+     * @param player
+     * @return the seat, or -1 if the player is not seated in this game
+     */
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < seating.size(); seat++) {
+            if (seating.get(seat) == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method snapshot is responsible for saving the state of the game between two rounds,
+     * for example from GameEventSink.roundStarted or after simulateUntil.
+     * The snapshot is a copy, so the game can go on while it is written to a file.
+     * @return
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(this);
+    }
+
+    /**
+     * Method restore is responsible for putting the game back into the state of a snapshot,
+     * including the dice, so that it goes on exactly as the game the snapshot was taken of.
+     * Only the players and the properties they own are touched, not the whole board,
+     * so one game can be restored over and over again cheaply.
+     * @param snapshot a snapshot of this game or of a copy of it
+     */
+    public void restore(GameSnapshot snapshot) {
+        restore(snapshot, dice);
+        dice.setCursor(snapshot.getDiceCursor());
+    }
+
+    /**
+     * Method restore is responsible for putting the game back into the state of a snapshot,
+     * but continuing with other dice, for example to play a what-if continuation.
+     * @param snapshot a snapshot of this game or of a copy of it
+     * @param dice
+     */
+    public void restore(GameSnapshot snapshot, DiceProvider dice) {
+        snapshot.restoreInto(this);
+        this.dice = dice;
+    }
+
+    /**
+     * Method restoreState is responsible for setting the players left in the game, in their starting order,
+     * and the round the game continues from. Used by GameSnapshot.
+     * @param bankruptcyRounds
+     * @param round
+     */
+    void restoreState(int[] bankruptcyRounds, int round) {
+        System.arraycopy(bankruptcyRounds, 0, this.bankruptcyRounds, 0, bankruptcyRounds.length);
+        players.clear();
+        for (int seat = 0; seat < seating.size(); seat++) {
+            if (bankruptcyRounds[seat] < 0) {
+                players.add(seating.get(seat));
+            }
+        }
+        currentRound = round;
+    }
+
+    DiceProvider getDice() {
+        return dice;
+    }
+
+    /**
+     * Method setEventSink is responsible for setting where the events of the game are sent to, for example a GameLogWriter.
+     * The players send the events of their turns themselves, so every seated player gets the sink too.
+     * @param eventSink the sink, or null to not record the game
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink != null ? eventSink : GameEventSink.NO_EVENTS;
+        for (int seat = 0; seat < seating.size(); seat++) {
+            seating.get(seat).setEventSink(this.eventSink, seat);
+        }
+    }
+
+    /**
+     * Method getWinner is responsible for returning the remaining player with the most money.
+     * On equal money the player sitting earlier wins.
+     * @return the winner, or null if nobody is left
+     */
+    public Player getWinner() {
+        Player winner = null;
+        for (Player player : players) {
+            if (winner == null || player.getBalance() > winner.getBalance()) {
+                winner = player;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Method getBankruptcyRound is responsible for returning the round in which the player on the given seat went bankrupt.
+     * @param seat
+     * @return the round (starting from 0), or -1 if the player did not go bankrupt
+     */
+    public int getBankruptcyRound(int seat) {
+        return bankruptcyRounds[seat];
+    }
+
+    /**
+     * Method getSeating is responsible for returning all players in their starting order,
+     * including the ones that were removed from the game.
+     * @return
+     */
+    public List<Player> getSeating() {
+        return Collections.unmodifiableList(seating);
+    }
+
+    /**
+     * Method getPlayers is responsible for returning the players that are still in the game.
+     * @return
+     */
+    public List<Player> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    Board getBoard() {
+        return board;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Method getRoundsPlayed is responsible for returning the number of rounds played so far.
+     * @return
+     */
+    public int getRoundsPlayed() {
+        return currentRound;
     }
 
     /**
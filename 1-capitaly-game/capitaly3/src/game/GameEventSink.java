@@ -0,0 +1,102 @@
+package game;
+
+/**
+ * The GameEventSink interface receives everything that happens during a game, one event at a time.
+ * Players are identified by their seat, the index in the starting order, and fields by their index on the board.
+ * The events only carry primitive values, so recording a game does not allocate per event.
+ * Every method does nothing by default, so a sink only implements the events it needs.
+ * The players send the events themselves, as their money, position and properties change.
+ */
+public interface GameEventSink {
+    /**
+     * The sink of a game that is not recorded, which ignores every event.
+     */
+    GameEventSink NO_EVENTS = new GameEventSink() {
+    };
+
+    /**
+     * Method roundStarted is responsible for receiving the start of a round.
+     * @param round the round, starting from 0
+     */
+    default void roundStarted(int round) {
+    }
+
+    /**
+     * Method rolled is responsible for receiving a roll of the dice.
+     * @param seat
+     * @param roll
+     */
+    default void rolled(int seat, int roll) {
+    }
+
+    /**
+     * Method moved is responsible for receiving the field a player landed on.
+     * @param seat
+     * @param field
+     */
+    default void moved(int seat, int field) {
+    }
+
+    /**
+     * Method turn is responsible for receiving a roll of the dice together with the move it causes.
+     * By default it is received as a roll followed by a move.
+     * @param seat
+     * @param roll
+     * @param field the field the player landed on
+     */
+    default void turn(int seat, int roll, int field) {
+        rolled(seat, roll);
+        moved(seat, field);
+    }
+
+    /**
+     * Method bought is responsible for receiving the purchase of a property.
+     * @param seat
+     * @param field
+     * @param price
+     */
+    default void bought(int seat, int field, int price) {
+    }
+
+    /**
+     * Method houseBuilt is responsible for receiving a house built on a property.
+     * @param seat
+     * @param field
+     * @param price
+     */
+    default void houseBuilt(int seat, int field, int price) {
+    }
+
+    /**
+     * Method rentPaid is responsible for receiving rent paid to the owner of a property.
+     * @param seat the paying player
+     * @param ownerSeat the owner
+     * @param amount
+     */
+    default void rentPaid(int seat, int ownerSeat, int amount) {
+    }
+
+    /**
+     * Method bankPaid is responsible for receiving a payment to the bank on a service field.
+     * @param seat
+     * @param amount
+     */
+    default void bankPaid(int seat, int amount) {
+    }
+
+    /**
+     * Method rewarded is responsible for receiving the reward of a lucky field.
+     * @param seat
+     * @param amount
+     */
+    default void rewarded(int seat, int amount) {
+    }
+
+    /**
+     * Method bankrupt is responsible for receiving a player going bankrupt.
+     * The player leaves the game and all its properties are released.
+     * @param seat
+     */
+    default void bankrupt(int seat) {
+    }
+}
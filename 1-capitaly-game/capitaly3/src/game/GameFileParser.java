@@ -0,0 +1,455 @@
+package game;
+
+import players.Player;
+import players.PlayerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The GameFileParser class reads a game file straight from its bytes, without reading lines or splitting strings,
+ * so even boards with millions of fields load quickly.
+ * It reads the usual text format and a compact binary format written by writeBinary,
+ * and rejects files that do not match their declared number of fields or players.
+ */
+public final class GameFileParser {
+    /**
+     * The first four bytes of a binary game file, "CAPB".
+     */
+    static final int BINARY_MAGIC = 0x43415042;
+    static final byte BINARY_VERSION = 1;
+
+    private static final byte PROPERTY = 'P';
+    private static final byte SERVICE = 'S';
+    private static final byte LUCKY = 'L';
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private int line;
+
+    private Board board;
+    private List<Player> players;
+    private int rounds;
+
+    private GameFileParser(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+        this.limit = buffer.limit();
+        this.position = buffer.position();
+        this.line = 1;
+    }
+
+    /**
+     * Method read is responsible for mapping the game file into memory and parsing it,
+     * in the binary format if it starts with the binary header and in the text format otherwise.
+     * @param filePath
+     * @return the parser holding the board, the players and the number of rounds
+     * @throws IOException if the file cannot be read or is not a valid game file
+     */
+    public static GameFileParser read(String filePath) throws IOException {
+        ByteBuffer buffer = map(filePath);
+        try {
+            return isBinary(buffer) ? parseBinary(buffer) : parse(buffer);
+        } catch (IOException e) {
+            throw new IOException(filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Method parse is responsible for parsing a game file in the text format:
+     * the number of fields, one field per line, the number of players, one player per line, and the number of rounds.
+     * @param buffer the bytes of the file, from its position to its limit
+     * @return the parser holding the board, the players and the number of rounds
+     * @throws IOException if the bytes are not a valid game file
+     */
+    public static GameFileParser parse(ByteBuffer buffer) throws IOException {
+        GameFileParser parser = new GameFileParser(buffer);
+        parser.parseText();
+        return parser;
+    }
+
+    /**
+     * Method parseBinary is responsible for parsing a game file in the binary format written by writeBinary.
+     * @param buffer the bytes of the file, from its position to its limit
+     * @return the parser holding the board, the players and the number of rounds
+     * @throws IOException if the bytes are not a valid binary game file
+     */
+    public static GameFileParser parseBinary(ByteBuffer buffer) throws IOException {
+        GameFileParser parser = new GameFileParser(buffer);
+        try {
+            parser.readBinary();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary game file ends too early", e);
+        }
+        return parser;
+    }
+
+    /**
+     * Method writeBinary is responsible for converting a game file into the binary format.
+     * The binary file holds the magic number and version, the number of fields,
+     * one type byte per field followed by the amount of service and lucky fields,
+     * the number of players, the name and strategy of every player and the number of rounds.
+     * Numbers are 4-byte big-endian integers and texts are a 2-byte length followed by UTF-8 bytes.
+     * @param gameFilePath a game file in either format
+     * @param binaryFilePath
+     * @return the number of fields written
+     * @throws IOException
+     */
+    public static int writeBinary(String gameFilePath, String binaryFilePath) throws IOException {
+        GameFileParser parser = read(gameFilePath);
+        List<Field> fields = parser.board.fields;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(binaryFilePath)))) {
+            out.writeInt(BINARY_MAGIC);
+            out.writeByte(BINARY_VERSION);
+            out.writeInt(fields.size());
+            for (Field field : fields) {
+                if (field instanceof ServiceField) {
+                    out.writeByte(SERVICE);
+                    out.writeInt(((ServiceField) field).getCost());
+                } else if (field instanceof LuckyField) {
+                    out.writeByte(LUCKY);
+                    out.writeInt(((LuckyField) field).getReward());
+                } else {
+                    out.writeByte(PROPERTY);
+                }
+            }
+            out.writeInt(parser.players.size());
+            for (Player player : parser.players) {
+                writeText(out, player.getName());
+                writeText(out, player.getStrategy());
+            }
+            out.writeInt(parser.rounds);
+        }
+        return fields.size();
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Text is too long for a binary game file: " + text.length() + " characters");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Method map is responsible for mapping the whole file into memory as read-only.
+     * @param filePath
+     * @return
+     * @throws IOException
+     */
+    private static ByteBuffer map(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Game file " + filePath + " is too large to be mapped: " + size + " bytes");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private static boolean isBinary(ByteBuffer buffer) {
+        return buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == BINARY_MAGIC;
+    }
+
+    /**
+     * Method parseText is responsible for reading the text format line by line.
+     * The board is created with room for the declared number of fields,
+     * but never more than the rest of the file could hold, so a wrong header cannot allocate too much.
+     * @throws IOException
+     */
+    private void parseText() throws IOException {
+        int numberOfFields = readCount("fields", 1);
+        endLine();
+        board = new Board(Math.min(numberOfFields, (limit - position) / 2 + 1));
+        for (int i = 0; i < numberOfFields; i++) {
+            board.addField(readField(numberOfFields));
+            endLine();
+        }
+
+        int numberOfPlayers = readCount("players", 1);
+        endLine();
+        players = new ArrayList<>(Math.min(numberOfPlayers, (limit - position) / 4 + 1));
+        for (int i = 0; i < numberOfPlayers; i++) {
+            String name = readWord("player name");
+            int strategyLine = line;
+            String strategy = readWord("strategy");
+            players.add(createPlayer(name, strategy, strategyLine));
+            endLine();
+        }
+
+        rounds = readCount("rounds", 0);
+        skipWhitespace();
+        if (position < limit) {
+            throw error("unexpected text after the number of rounds");
+        }
+    }
+
+    /**
+     * Method readField is responsible for reading the type of one field, and its amount if it has one.
+     * @param numberOfFields the declared number of fields, for the error message
+     * @return
+     * @throws IOException if the type is unknown or the amount is missing
+     */
+    private Field readField(int numberOfFields) throws IOException {
+        skipSpaces();
+        byte type = position < limit ? buffer.get(position) : 0;
+        if (position >= limit || (type >= '0' && type <= '9')) {
+            throw error("expected " + numberOfFields + " fields, found " + board.fields.size());
+        }
+        int end = wordEnd();
+        if (end != position + 1) {
+            throw error("unknown field type '" + text(position, end) + "'");
+        }
+        position = end;
+        switch (type) {
+            case PROPERTY:
+                return new PropertyField();
+            case SERVICE:
+                return new ServiceField(readInt("service cost"));
+            case LUCKY:
+                return new LuckyField(readInt("lucky reward"));
+            default:
+                throw error("unknown field type '" + (char) type + "'");
+        }
+    }
+
+    /**
+     * Method readCount is responsible for reading a number that tells how many of something follows.
+     * @param what
+     * @param minimum
+     * @return
+     * @throws IOException if the number is missing or smaller than the minimum
+     */
+    private int readCount(String what, int minimum) throws IOException {
+        int count = readInt("number of " + what);
+        if (count < minimum) {
+            throw error("number of " + what + " must be at least " + minimum + ", found " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Method readInt is responsible for parsing a decimal number on the current line, without creating a string.
+     * @param what a description of the number for the error message
+     * @return
+     * @throws IOException if there is no number or it does not fit into an int
+     */
+    private int readInt(String what) throws IOException {
+        skipSpaces();
+        int start = position;
+        boolean negative = position < limit && buffer.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (position < limit) {
+            byte c = buffer.get(position);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw error(what + " is too large");
+            }
+            digits++;
+            position++;
+        }
+        if (digits == 0 || position != wordEnd()) {
+            int end = wordEnd();
+            position = start;
+            throw error("expected the " + what + (end > start ? ", found '" + text(start, end) + "'" : ""));
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error(what + " is too large");
+        }
+        return (int) value;
+    }
+
+    private String readWord(String what) throws IOException {
+        skipSpaces();
+        int end = wordEnd();
+        if (end == position) {
+            throw error("expected the " + what);
+        }
+        String word = text(position, end);
+        position = end;
+        return word;
+    }
+
+    private Player createPlayer(String name, String strategy, int strategyLine) throws IOException {
+        try {
+            return PlayerFactory.create(name, strategy);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Line " + strategyLine + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Method endLine is responsible for checking that nothing but spaces is left on the current line,
+     * and moving to the next one.
+     * @throws IOException
+     */
+    private void endLine() throws IOException {
+        skipSpaces();
+        if (position >= limit) {
+            return;
+        }
+        byte c = buffer.get(position);
+        if (c == '\r' && position + 1 < limit && buffer.get(position + 1) == '\n') {
+            position++;
+            c = '\n';
+        }
+        if (c != '\n') {
+            throw error("unexpected '" + text(position, wordEnd()) + "'");
+        }
+        position++;
+        line++;
+    }
+
+    private void skipSpaces() {
+        while (position < limit) {
+            byte c = buffer.get(position);
+            if (c != ' ' && c != '\t') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < limit) {
+            byte c = buffer.get(position);
+            if (c == '\n') {
+                line++;
+            } else if (c != ' ' && c != '\t' && c != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Method wordEnd is responsible for finding where the word at the current position ends.
+     * @return the index of the first space or line break after the position
+     */
+    private int wordEnd() {
+        int end = position;
+        while (end < limit) {
+            byte c = buffer.get(end);
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    private String text(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private IOException error(String message) {
+        return new IOException("Line " + line + ": " + message);
+    }
+
+    /**
+     * Method readBinary is responsible for reading the binary format described at writeBinary.
+     * @throws IOException
+     */
+    private void readBinary() throws IOException {
+        buffer.position(position);
+        if (buffer.getInt() != BINARY_MAGIC) {
+            throw new IOException("Not a binary game file");
+        }
+        byte version = buffer.get();
+        if (version != BINARY_VERSION) {
+            throw new IOException("Unsupported binary game file version: " + version);
+        }
+
+        int numberOfFields = buffer.getInt();
+        if (numberOfFields < 1) {
+            throw new IOException("Number of fields must be at least 1, found " + numberOfFields);
+        }
+        board = new Board(Math.min(numberOfFields, buffer.remaining()));
+        for (int i = 0; i < numberOfFields; i++) {
+            byte type = buffer.get();
+            switch (type) {
+                case PROPERTY:
+                    board.addField(new PropertyField());
+                    break;
+                case SERVICE:
+                    board.addField(new ServiceField(buffer.getInt()));
+                    break;
+                case LUCKY:
+                    board.addField(new LuckyField(buffer.getInt()));
+                    break;
+                default:
+                    throw new IOException("Unknown field type " + type + " of field " + (i + 1));
+            }
+        }
+
+        int numberOfPlayers = buffer.getInt();
+        if (numberOfPlayers < 1) {
+            throw new IOException("Number of players must be at least 1, found " + numberOfPlayers);
+        }
+        players = new ArrayList<>(Math.min(numberOfPlayers, buffer.remaining() / 4));
+        for (int i = 0; i < numberOfPlayers; i++) {
+            String name = readBinaryText();
+            String strategy = readBinaryText();
+            try {
+                players.add(PlayerFactory.create(name, strategy));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        rounds = buffer.getInt();
+        if (rounds < 0) {
+            throw new IOException("Number of rounds must be at least 0, found " + rounds);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Unexpected " + buffer.remaining() + " bytes after the number of rounds");
+        }
+    }
+
+    private String readBinaryText() {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    Board getBoard() {
+        return board;
+    }
+
+    List<Player> getPlayers() {
+        return players;
+    }
+
+    public int getNumberOfFields() {
+        return board.fields.size();
+    }
+
+    public int getNumberOfPlayers() {
+        return players.size();
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+}
@@ -0,0 +1,204 @@
+package game;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static game.GameLogWriter.*;
+
+/**
+ * The GameLogReader class reads a log written by GameLogWriter and replays its events into a GameEventSink,
+ * for example a GameReplay that rebuilds the state of the game.
+ */
+public class GameLogReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    private final int numberOfFields;
+    private final String[] names;
+    private final String[] strategies;
+    private final int[] startingMoney;
+    private final int[] startingPositions;
+    private final int[] positions;
+    private int round;
+
+    /**
+     * Constructor GameLogReader is responsible for reading the header of a log.
+     * @param in the stream the log is read from; closing the reader closes it
+     * @throws IOException if the stream is not a game log
+     */
+    public GameLogReader(InputStream in) throws IOException {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.round = -1;
+
+        int magic = readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+        if (magic != MAGIC) {
+            throw new IOException("Not a game log");
+        }
+        int version = readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported game log version: " + version);
+        }
+        numberOfFields = readVarint();
+        int seats = readVarint();
+        names = new String[seats];
+        strategies = new String[seats];
+        startingMoney = new int[seats];
+        startingPositions = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            names[seat] = readText();
+            strategies[seat] = readText();
+            startingMoney[seat] = unzigzag(readVarint());
+            startingPositions[seat] = readVarint();
+        }
+        positions = startingPositions.clone();
+    }
+
+    /**
+     * Method next is responsible for reading one event and passing it to the sink.
+     * @param sink
+     * @return false if the log has no more events
+     * @throws IOException if the log is broken or ends in the middle of an event
+     */
+    public boolean next(GameEventSink sink) throws IOException {
+        if (position == limit && !fill()) {
+            return false;
+        }
+        int key = readVarint();
+        int seat = key >>> TYPE_BITS;
+        switch (key & (1 << TYPE_BITS) - 1) {
+            case ROUND_STARTED:
+                sink.roundStarted(++round);
+                break;
+            case ROLLED:
+                sink.rolled(seat, unzigzag(readVarint()));
+                break;
+            case MOVED:
+                positions[seat] = readVarint();
+                sink.moved(seat, positions[seat]);
+                break;
+            case TURN:
+                int roll = unzigzag(readVarint());
+                positions[seat] = (positions[seat] + roll) % numberOfFields;
+                sink.turn(seat, roll, positions[seat]);
+                break;
+            case BOUGHT:
+                sink.bought(seat, readVarint(), unzigzag(readVarint()));
+                break;
+            case HOUSE_BUILT:
+                sink.houseBuilt(seat, readVarint(), unzigzag(readVarint()));
+                break;
+            case RENT_PAID:
+                sink.rentPaid(seat, readVarint(), unzigzag(readVarint()));
+                break;
+            case BANK_PAID:
+                sink.bankPaid(seat, unzigzag(readVarint()));
+                break;
+            case REWARDED:
+                sink.rewarded(seat, unzigzag(readVarint()));
+                break;
+            case BANKRUPT:
+                sink.bankrupt(seat);
+                break;
+            default:
+                throw new IOException("Unknown event type " + (key & (1 << TYPE_BITS) - 1));
+        }
+        return true;
+    }
+
+    /**
+     * Method replay is responsible for passing all remaining events to the sink.
+     * @param sink
+     * @return the number of events replayed
+     * @throws IOException
+     */
+    public long replay(GameEventSink sink) throws IOException {
+        long events = 0;
+        while (next(sink)) {
+            events++;
+        }
+        return events;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private int readByte() throws IOException {
+        if (position == limit && !fill()) {
+            throw new EOFException("Game log ends in the middle of an event");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Method readVarint is responsible for reading a number written by GameLogWriter.writeVarint.
+     * @return
+     * @throws IOException
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if (b < 0x80) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in game log");
+    }
+
+    private String readText() throws IOException {
+        byte[] bytes = new byte[readVarint()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) readByte();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int unzigzag(int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    public int getNumberOfFields() {
+        return numberOfFields;
+    }
+
+    public int getNumberOfSeats() {
+        return names.length;
+    }
+
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    public String getStrategy(int seat) {
+        return strategies[seat];
+    }
+
+    public int getStartingMoney(int seat) {
+        return startingMoney[seat];
+    }
+
+    public int getStartingPosition(int seat) {
+        return startingPositions[seat];
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,245 @@
+package game;
+
+import players.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * The GameLogWriter class writes the events of a game into a compact binary log, which GameLogReader replays.
+ *
+ * The log starts with the magic number "CAPL", the version, the number of fields and, for every seat,
+ * the name, strategy, money and position of its player. Every event is then a varint key,
+ * seat * 16 + event type, followed by its values as varints. Amounts are zigzag-encoded,
+ * so small negative amounts stay short too. A round start has no values; its number is counted by the reader.
+ * A turn, a roll together with the move it causes, is written holding only the roll,
+ * since the reader can work out the field the same way Player.move does. A usual turn takes two bytes.
+ */
+public class GameLogWriter implements GameEventSink, Closeable {
+    static final int MAGIC = 0x4341504C;
+    static final byte VERSION = 1;
+
+    static final int ROUND_STARTED = 0;
+    static final int ROLLED = 1;
+    static final int MOVED = 2;
+    static final int BOUGHT = 3;
+    static final int HOUSE_BUILT = 4;
+    static final int RENT_PAID = 5;
+    static final int BANK_PAID = 6;
+    static final int REWARDED = 7;
+    static final int BANKRUPT = 8;
+    static final int TURN = 9;
+    static final int TYPE_BITS = 4;
+
+    /**
+     * The buffer is written to the stream whenever it is full. It is kept small,
+     * as clearing a large buffer for every game costs more than recording a short game.
+     */
+    private static final int BUFFER_SIZE = 1024;
+    /**
+     * The longest event: a key and two values of at most five bytes each.
+     */
+    private static final int MAX_EVENT_SIZE = 15;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int length;
+
+    /**
+     * Constructor GameLogWriter is responsible for writing the header of the log of a game that has not started yet.
+     * Pass the writer to Game.setEventSink to record the game.
+     * @param out the stream the log is written to; closing the writer closes it
+     * @param game
+     * @throws IOException
+     */
+    public GameLogWriter(OutputStream out, Game game) throws IOException {
+        this.out = out;
+        this.buffer = new byte[BUFFER_SIZE];
+        writeHeader(game);
+    }
+
+    private void writeHeader(Game game) throws IOException {
+        writeInt(MAGIC);
+        buffer[length++] = VERSION;
+        writeVarint(game.getBoard().fields.size());
+        List<Player> seating = game.getSeating();
+        writeVarint(seating.size());
+        for (Player player : seating) {
+            writeText(player.getName());
+            writeText(player.getStrategy());
+            ensureCapacity(MAX_EVENT_SIZE);
+            writeVarint(zigzag(player.getBalance()));
+            writeVarint(player.getPosition());
+        }
+    }
+
+    private void writeInt(int value) {
+        buffer[length++] = (byte) (value >>> 24);
+        buffer[length++] = (byte) (value >>> 16);
+        buffer[length++] = (byte) (value >>> 8);
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeText(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(MAX_EVENT_SIZE);
+        writeVarint(bytes.length);
+        for (int i = 0; i < bytes.length; i += BUFFER_SIZE) {
+            int chunk = Math.min(BUFFER_SIZE, bytes.length - i);
+            ensureCapacity(chunk);
+            System.arraycopy(bytes, i, buffer, length, chunk);
+            length += chunk;
+        }
+    }
+
+    @Override
+    public void roundStarted(int round) {
+        event(ROUND_STARTED, 0);
+    }
+
+    @Override
+    public void rolled(int seat, int roll) {
+        event(ROLLED, seat);
+        writeVarint(zigzag(roll));
+    }
+
+    @Override
+    public void moved(int seat, int field) {
+        event(MOVED, seat);
+        writeVarint(field);
+    }
+
+    /**
+     * Method turn is responsible for writing a turn event, which is most of the log,
+     * with a shortcut for the usual case that the key and the roll take one byte each.
+     * The field is left out, as it follows from the roll.
+     * @param seat
+     * @param roll
+     * @param field
+     */
+    @Override
+    public void turn(int seat, int roll, int field) {
+        int key = seat << TYPE_BITS | TURN;
+        int value = zigzag(roll);
+        if ((key | value) < 0x80 && length + 2 <= buffer.length) {
+            buffer[length] = (byte) key;
+            buffer[length + 1] = (byte) value;
+            length += 2;
+        } else {
+            makeRoomForEvent();
+            writeVarint(key);
+            writeVarint(value);
+        }
+    }
+
+    @Override
+    public void bought(int seat, int field, int price) {
+        event(BOUGHT, seat);
+        writeVarint(field);
+        writeVarint(zigzag(price));
+    }
+
+    @Override
+    public void houseBuilt(int seat, int field, int price) {
+        event(HOUSE_BUILT, seat);
+        writeVarint(field);
+        writeVarint(zigzag(price));
+    }
+
+    @Override
+    public void rentPaid(int seat, int ownerSeat, int amount) {
+        event(RENT_PAID, seat);
+        writeVarint(ownerSeat);
+        writeVarint(zigzag(amount));
+    }
+
+    @Override
+    public void bankPaid(int seat, int amount) {
+        event(BANK_PAID, seat);
+        writeVarint(zigzag(amount));
+    }
+
+    @Override
+    public void rewarded(int seat, int amount) {
+        event(REWARDED, seat);
+        writeVarint(zigzag(amount));
+    }
+
+    @Override
+    public void bankrupt(int seat) {
+        event(BANKRUPT, seat);
+    }
+
+    /**
+     * Method event is responsible for making room for one more event and writing its key.
+     * @param type
+     * @param seat
+     */
+    private void event(int type, int seat) {
+        makeRoomForEvent();
+        writeVarint(seat << TYPE_BITS | type);
+    }
+
+    private void makeRoomForEvent() {
+        try {
+            ensureCapacity(MAX_EVENT_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (length + bytes > buffer.length) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        out.write(buffer, 0, length);
+        length = 0;
+    }
+
+    /**
+     * Method writeVarint is responsible for writing an unsigned number in groups of seven bits,
+     * the lowest group first, with the top bit set on every byte but the last.
+     * @param value
+     */
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    /**
+     * Method zigzag is responsible for mapping signed numbers to unsigned ones that stay small
+     * when the number is close to 0: 0, -1, 1, -2 become 0, 1, 2, 3.
+     * @param value
+     * @return
+     */
+    static int zigzag(int value) {
+        return value << 1 ^ value >> 31;
+    }
+
+    /**
+     * Method flush is responsible for writing the buffered events to the stream.
+     * @throws IOException
+     */
+    public void flush() throws IOException {
+        writeBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+}
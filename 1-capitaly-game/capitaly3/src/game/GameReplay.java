@@ -0,0 +1,146 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * The GameReplay class rebuilds the state of a game from its events: the money, position and properties
+ * of every player and the owner and house of every property.
+ * Replaying a log with GameLogReader.next can stop after any event, so the state at any point of the game
+ * can be looked at, for example at the start of a round.
+ * The log holds what happened, not what the strategies remember, such as how many purchases
+ * a RuleBasedPlayer still skips, so a replayed game can be looked at but not played on.
+ * Take a Game.snapshot to continue a game later.
+ */
+public class GameReplay implements GameEventSink {
+    /**
+     * The owner of a property nobody owns.
+     */
+    public static final int NO_OWNER = -1;
+
+    private final int[] money;
+    private final int[] positions;
+    private final int[] properties;
+    private final boolean[] bankrupt;
+    private final int[] owners;
+    private final boolean[] houses;
+    private int round;
+    private int playersLeft;
+
+    /**
+     * Constructor GameReplay is responsible for starting from the state written in the header of a log.
+     * @param reader
+     */
+    public GameReplay(GameLogReader reader) {
+        int seats = reader.getNumberOfSeats();
+        this.money = new int[seats];
+        this.positions = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            money[seat] = reader.getStartingMoney(seat);
+            positions[seat] = reader.getStartingPosition(seat);
+        }
+        this.properties = new int[seats];
+        this.bankrupt = new boolean[seats];
+        this.owners = new int[reader.getNumberOfFields()];
+        Arrays.fill(owners, NO_OWNER);
+        this.houses = new boolean[reader.getNumberOfFields()];
+        this.round = -1;
+        this.playersLeft = seats;
+    }
+
+    @Override
+    public void roundStarted(int round) {
+        this.round = round;
+    }
+
+    @Override
+    public void moved(int seat, int field) {
+        positions[seat] = field;
+    }
+
+    @Override
+    public void bought(int seat, int field, int price) {
+        owners[field] = seat;
+        properties[seat]++;
+        money[seat] -= price;
+    }
+
+    @Override
+    public void houseBuilt(int seat, int field, int price) {
+        houses[field] = true;
+        money[seat] -= price;
+    }
+
+    @Override
+    public void rentPaid(int seat, int ownerSeat, int amount) {
+        money[seat] -= amount;
+        money[ownerSeat] += amount;
+    }
+
+    @Override
+    public void bankPaid(int seat, int amount) {
+        money[seat] -= amount;
+    }
+
+    @Override
+    public void rewarded(int seat, int amount) {
+        money[seat] += amount;
+    }
+
+    /**
+     * Method bankrupt is responsible for removing the player and releasing all its properties.
+     * @param seat
+     */
+    @Override
+    public void bankrupt(int seat) {
+        bankrupt[seat] = true;
+        properties[seat] = 0;
+        playersLeft--;
+        for (int field = 0; field < owners.length; field++) {
+            if (owners[field] == seat) {
+                owners[field] = NO_OWNER;
+                houses[field] = false;
+            }
+        }
+    }
+
+    public int getMoney(int seat) {
+        return money[seat];
+    }
+
+    public int getPosition(int seat) {
+        return positions[seat];
+    }
+
+    public int getNumberOfProperties(int seat) {
+        return properties[seat];
+    }
+
+    public boolean isBankrupt(int seat) {
+        return bankrupt[seat];
+    }
+
+    /**
+     * Method getOwner is responsible for returning the seat of the owner of a field.
+     * @param field
+     * @return the seat, or NO_OWNER
+     */
+    public int getOwner(int field) {
+        return owners[field];
+    }
+
+    public boolean hasHouse(int field) {
+        return houses[field];
+    }
+
+    /**
+     * Method getRound is responsible for returning the round of the last replayed event.
+     * @return the round, starting from 0, or -1 before the first round
+     */
+    public int getRound() {
+        return round;
+    }
+
+    public int getPlayersLeft() {
+        return playersLeft;
+    }
+}
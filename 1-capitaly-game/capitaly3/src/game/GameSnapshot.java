@@ -0,0 +1,251 @@
+package game;
+
+import players.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The GameSnapshot class holds the state of a game between two rounds: the round, the cursor of the dice,
+ * the money, position, strategy state and bankruptcy of every seat, and the owner and house of every owned property.
+ * The board itself and the players are not part of the snapshot, they come from the game it is restored into,
+ * which has to be the game the snapshot was taken of or a copy of it.
+ * A snapshot never changes, so it can be written to a file on another thread while the game goes on.
+ *
+ * The file format is a fixed layout of big-endian numbers: the magic number "CAPS", the version,
+ * the number of fields and seats, the round, the dice cursor, four ints per seat,
+ * the number of owned properties and two ints per owned property.
+ */
+public final class GameSnapshot {
+    static final int MAGIC = 0x43415053;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 4 + 4 + 8 + 4;
+    private static final int SEAT_SIZE = 4 * 4;
+    private static final int PROPERTY_SIZE = 2 * 4;
+
+    private final int numberOfFields;
+    private final int round;
+    private final long diceCursor;
+    private final int[] money;
+    private final int[] positions;
+    private final int[] strategyStates;
+    private final int[] bankruptcyRounds;
+    /**
+     * The indexes of the owned properties in increasing order, and for each of them the seat of the owner
+     * times 2, plus 1 if there is a house.
+     */
+    private final int[] ownedFields;
+    private final int[] owners;
+
+    /**
+     * Constructor GameSnapshot is responsible for copying the state of a game that is between two rounds.
+     * The owned properties are found in the portfolios of the players, so the rest of the board is not visited.
+     * @param game
+     */
+    GameSnapshot(Game game) {
+        List<Player> seating = game.getSeating();
+        int seats = seating.size();
+        this.numberOfFields = game.getBoard().fields.size();
+        this.round = game.getRoundsPlayed();
+        this.diceCursor = game.getDice().getCursor();
+        this.money = new int[seats];
+        this.positions = new int[seats];
+        this.strategyStates = new int[seats];
+        this.bankruptcyRounds = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = seating.get(seat);
+            money[seat] = player.getBalance();
+            positions[seat] = player.getPosition();
+            strategyStates[seat] = player.getStrategyState();
+            bankruptcyRounds[seat] = game.getBankruptcyRound(seat);
+        }
+
+        int owned = 0;
+        for (Player player : seating) {
+            owned += player.getPortfolio().getNumberOfProperties();
+        }
+        // the index of each property in the high half and its owner in the low half, sorted by index
+        long[] properties = new long[owned];
+        int next = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            Portfolio portfolio = seating.get(seat).getPortfolio();
+            for (int i = 0; i < portfolio.getNumberOfProperties(); i++) {
+                PropertyField property = portfolio.get(i);
+                properties[next++] = (long) property.boardIndex << 32 | (seat * 2 + (property.hasHouse() ? 1 : 0));
+            }
+        }
+        Arrays.sort(properties);
+        this.ownedFields = new int[owned];
+        this.owners = new int[owned];
+        for (int i = 0; i < owned; i++) {
+            ownedFields[i] = (int) (properties[i] >>> 32);
+            owners[i] = (int) properties[i];
+        }
+    }
+
+    private GameSnapshot(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a game snapshot");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported game snapshot version: " + version);
+        }
+        this.numberOfFields = buffer.getInt();
+        int seats = buffer.getInt();
+        this.round = buffer.getInt();
+        this.diceCursor = buffer.getLong();
+        if (seats < 0 || (long) seats * SEAT_SIZE + 4 > buffer.remaining()) {
+            throw new IOException("Game snapshot is too short for " + seats + " seats");
+        }
+        this.money = new int[seats];
+        this.positions = new int[seats];
+        this.strategyStates = new int[seats];
+        this.bankruptcyRounds = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            money[seat] = buffer.getInt();
+            positions[seat] = buffer.getInt();
+            strategyStates[seat] = buffer.getInt();
+            bankruptcyRounds[seat] = buffer.getInt();
+        }
+        int owned = buffer.getInt();
+        if (owned < 0 || (long) owned * PROPERTY_SIZE != buffer.remaining()) {
+            throw new IOException("Game snapshot does not hold " + owned + " properties");
+        }
+        this.ownedFields = new int[owned];
+        this.owners = new int[owned];
+        for (int i = 0; i < owned; i++) {
+            ownedFields[i] = buffer.getInt();
+            owners[i] = buffer.getInt();
+        }
+    }
+
+    /**
+     * Method restoreInto is responsible for putting the players and properties of a game back into this state.
+     * Only the properties the players own now and the ones owned in the snapshot are touched.
+     * @param game
+     */
+    void restoreInto(Game game) {
+        List<Field> fields = game.getBoard().fields;
+        List<Player> seating = game.getSeating();
+        if (fields.size() != numberOfFields || seating.size() != money.length) {
+            throw new IllegalArgumentException("Snapshot of " + numberOfFields + " fields and " + money.length
+                    + " seats does not fit a game of " + fields.size() + " fields and " + seating.size() + " seats");
+        }
+        for (int seat = 0; seat < money.length; seat++) {
+            seating.get(seat).restore(money[seat], positions[seat], bankruptcyRounds[seat] >= 0, strategyStates[seat]);
+        }
+        for (int i = 0; i < ownedFields.length; i++) {
+            PropertyField property = (PropertyField) fields.get(ownedFields[i]);
+            seating.get(owners[i] >> 1).restoreProperty(property);
+            if ((owners[i] & 1) != 0) {
+                property.buildHouse();
+            }
+        }
+        game.restoreState(bankruptcyRounds, round);
+    }
+
+    /**
+     * Method toByteBuffer is responsible for encoding the snapshot in the file format.
+     * @return a buffer positioned at the start of the encoded snapshot
+     */
+    public ByteBuffer toByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + money.length * SEAT_SIZE + ownedFields.length * PROPERTY_SIZE);
+        buffer.putInt(MAGIC).put(VERSION).putInt(numberOfFields).putInt(money.length).putInt(round).putLong(diceCursor);
+        for (int seat = 0; seat < money.length; seat++) {
+            buffer.putInt(money[seat]).putInt(positions[seat]).putInt(strategyStates[seat]).putInt(bankruptcyRounds[seat]);
+        }
+        buffer.putInt(ownedFields.length);
+        for (int i = 0; i < ownedFields.length; i++) {
+            buffer.putInt(ownedFields[i]).putInt(owners[i]);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Method fromByteBuffer is responsible for decoding a snapshot written by toByteBuffer.
+     * @param buffer the encoded snapshot, from its position to its limit
+     * @return
+     * @throws IOException if the buffer does not hold a snapshot
+     */
+    public static GameSnapshot fromByteBuffer(ByteBuffer buffer) throws IOException {
+        return new GameSnapshot(buffer.duplicate());
+    }
+
+    /**
+     * Method write is responsible for writing the snapshot to a file, replacing the file if it exists.
+     * @param file
+     * @throws IOException
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = toByteBuffer();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Method writeAsync is responsible for writing the snapshot to a file on the given executor,
+     * so that the game does not wait for the disk.
+     * @param file
+     * @param executor
+     * @return a future completed with the file when it is written
+     */
+    public CompletableFuture<Path> writeAsync(Path file, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(file);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Method read is responsible for reading a snapshot written by write.
+     * @param file
+     * @return
+     * @throws IOException if the file cannot be read or does not hold a snapshot
+     */
+    public static GameSnapshot read(Path file) throws IOException {
+        return fromByteBuffer(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public long getDiceCursor() {
+        return diceCursor;
+    }
+
+    public int getMoney(int seat) {
+        return money[seat];
+    }
+
+    public int getPosition(int seat) {
+        return positions[seat];
+    }
+
+    public boolean isBankrupt(int seat) {
+        return bankruptcyRounds[seat] >= 0;
+    }
+
+    public int getNumberOfOwnedProperties() {
+        return ownedFields.length;
+    }
+}
@@ -18,12 +18,17 @@ public class LuckyField extends Field {
     }
 
     /**
-     * Method landOn is responsible for triggering the receiveMoney method
+     * Method landOn is responsible for triggering the receiveReward method
      * which adds the reward by passing through a parameter.
      * @param player
      */
     @Override
     public void landOn(Player player) {
-        player.receiveMoney(reward);
+        player.receiveReward(reward);
+    }
+
+    @Override
+    public Field copy() {
+        return new LuckyField(reward);
     }
 }
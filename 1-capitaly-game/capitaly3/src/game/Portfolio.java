@@ -0,0 +1,101 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * The Portfolio class is the index of the properties one player owns.
+ * It is kept up to date by PropertyField.buy, buildHouse and release, so the number of properties and houses,
+ * their value and the rent they charge are known at any time without scanning the board.
+ * The properties are kept in an array in no particular order; every property remembers its slot,
+ * so releasing one moves the last property into its slot instead of shifting the rest.
+ */
+public class Portfolio {
+    private PropertyField[] properties = new PropertyField[8];
+    private int size;
+    private int houses;
+
+    /**
+     * Method add is responsible for indexing a property that has just been bought.
+     * @param property
+     */
+    void add(PropertyField property) {
+        if (size == properties.length) {
+            properties = Arrays.copyOf(properties, size * 2);
+        }
+        property.portfolioSlot = size;
+        properties[size++] = property;
+        if (property.hasHouse()) {
+            houses++;
+        }
+    }
+
+    /**
+     * Method remove is responsible for removing a released property from the index.
+     * @param property
+     * @param hadHouse whether the property had a house before it was released
+     */
+    void remove(PropertyField property, boolean hadHouse) {
+        int slot = property.portfolioSlot;
+        PropertyField last = properties[--size];
+        properties[slot] = last;
+        last.portfolioSlot = slot;
+        properties[size] = null;
+        if (hadHouse) {
+            houses--;
+        }
+    }
+
+    /**
+     * Method houseBuilt is responsible for counting a house built on one of the properties.
+     */
+    void houseBuilt() {
+        houses++;
+    }
+
+    /**
+     * Method releaseAll is responsible for releasing every property of the portfolio,
+     * in time proportional to the number of properties owned.
+     */
+    public void releaseAll() {
+        while (size > 0) {
+            properties[size - 1].release();
+        }
+    }
+
+    /**
+     * Method get is responsible for returning one of the properties; the order changes when a property is released.
+     * @param index between 0 and getNumberOfProperties() - 1
+     * @return
+     */
+    public PropertyField get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Property " + index + " of a portfolio of " + size);
+        }
+        return properties[index];
+    }
+
+    public int getNumberOfProperties() {
+        return size;
+    }
+
+    public int getNumberOfHouses() {
+        return houses;
+    }
+
+    /**
+     * Method getValue is responsible for returning what the properties and houses cost when they were bought.
+     * @return
+     */
+    public int getValue() {
+        return size * PropertyField.PROPERTY_COST + houses * PropertyField.HOUSE_COST;
+    }
+
+    /**
+     * Method getRentExposure is responsible for returning the rent the other players pay
+     * if each of them lands on each property once, that is the sum of the rents of the properties.
+     * @return
+     */
+    public int getRentExposure() {
+        return (size - houses) * PropertyField.RENT + houses * PropertyField.HOUSE_RENT;
+    }
+}
@@ -3,8 +3,21 @@ package game;
 import players.Player;
 
 public class PropertyField extends Field {
+    public static final int PROPERTY_COST = 1000;
+    public static final int HOUSE_COST = 4000;
+    public static final int RENT = 500;
+    public static final int HOUSE_RENT = 2000;
+
     private Player owner;
     private boolean hasHouse;
+    /**
+     * The slot of the property in the portfolio of its owner.
+     */
+    int portfolioSlot;
+    /**
+     * The index of the property on its board, set by Board.addField.
+     */
+    int boardIndex = -1;
 
     /**
      * Constructor PropertyField is responsible for creating  a PropertyField instance with default values.
@@ -23,10 +36,19 @@ public class PropertyField extends Field {
         if (owner == null) {
             player.considerBuying(this);
         } else if (owner != player) {
-            player.payRent(owner, hasHouse ? 2000 : 500);
+            player.payRent(owner, hasHouse ? HOUSE_RENT : RENT);
         }
     }
 
+    /**
+     * Method copy is responsible for creating a new property without an owner and without a house.
+     * @return
+     */
+    @Override
+    public Field copy() {
+        return new PropertyField();
+    }
+
     /**
      * Method canBuyHouse is responsible for checking whether a property has an owner, and whether it has a house.
      * @param player
@@ -37,10 +59,16 @@ public class PropertyField extends Field {
     }
 
     /**
-     * Method buildHouse is responsible for stating the fact that the house is built.
+     * Method buildHouse is responsible for stating the fact that the house is built,
+     * and counting it in the portfolio of the owner.
      */
     public void buildHouse() {
-        hasHouse = true;
+        if (!hasHouse) {
+            hasHouse = true;
+            if (owner != null) {
+                owner.getPortfolio().houseBuilt();
+            }
+        }
     }
 
     /**
@@ -52,11 +80,24 @@ public class PropertyField extends Field {
     }
 
     /**
-     * Method buy is responsible for setting the owner of the property.
+     * Method hasHouse is responsible for checking if a house is built on the property.
+     * @return
+     */
+    public boolean hasHouse() {
+        return hasHouse;
+    }
+
+    /**
+     * Method buy is responsible for setting the owner of the property and adding it to the owner's portfolio.
+     * A property that is already owned is released first.
      * @param player
      */
     public void buy(Player player) {
+        if (owner != null) {
+            release();
+        }
         owner = player;
+        player.getPortfolio().add(this);
     }
 
     /**
@@ -64,6 +105,9 @@ public class PropertyField extends Field {
      * and that it is free to buy, build house (because it is resetted to none).
      */
     public void release() {
+        if (owner != null) {
+            owner.getPortfolio().remove(this, hasHouse);
+        }
         owner = null;
         hasHouse = false;
     }
@@ -0,0 +1,104 @@
+package game;
+
+/**
+ * The RandomDice class rolls pseudo-random numbers from a seed using the SplitMix64 generator.
+ * The whole state is one long, so rolling never allocates and the same seed always gives the same rolls.
+ */
+public class RandomDice implements DiceProvider {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int DEFAULT_SIDES = 6;
+
+    private final int sides;
+    private long state;
+
+    /**
+     * Constructor RandomDice is responsible for creating a six-sided dice from a seed.
+     * @param seed
+     */
+    public RandomDice(long seed) {
+        this(seed, DEFAULT_SIDES);
+    }
+
+    /**
+     * Constructor RandomDice is responsible for creating a dice with the given number of sides from a seed.
+     * @param seed
+     * @param sides
+     */
+    public RandomDice(long seed, int sides) {
+        if (sides < 1) {
+            throw new IllegalArgumentException("Dice needs at least one side: " + sides);
+        }
+        this.sides = sides;
+        this.state = seed;
+    }
+
+    /**
+     * Method forStream is responsible for creating the dice of one independent stream of a seed,
+     * for example one simulated game of a parallel run. The rolls only depend on the seed and the stream,
+     * not on the thread or the order in which the streams are created.
+     * @param seed
+     * @param stream
+     * @return
+     */
+    public static RandomDice forStream(long seed, long stream) {
+        return new RandomDice(mix(seed + mix(stream + GOLDEN_GAMMA)));
+    }
+
+    /**
+     * Method split is responsible for creating a new independent dice for another thread.
+     * The rolls of the new dice only depend on the rolls taken from this one before splitting.
+     * @return
+     */
+    public RandomDice split() {
+        return new RandomDice(mix(nextLong()), sides);
+    }
+
+    /**
+     * Method roll is responsible for returning an evenly distributed number from 1 to the number of sides.
+     * @return
+     */
+    @Override
+    public int roll() {
+        int bits;
+        int value;
+        do {
+            bits = (int) (nextLong() >>> 33);
+            value = bits % sides;
+        } while (bits - value + (sides - 1) < 0);
+        return value + 1;
+    }
+
+    /**
+     * Method getCursor is responsible for returning the whole state of the generator.
+     * @return
+     */
+    @Override
+    public long getCursor() {
+        return state;
+    }
+
+    @Override
+    public void setCursor(long cursor) {
+        state = cursor;
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    private long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * Method mix is responsible for scrambling the bits of a value (SplitMix64 finalizer).
+     * @param value
+     * @return
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -13,6 +13,10 @@ public class ServiceField extends Field {
         this.cost = cost;
     }
 
+    public int getCost() {
+        return cost;
+    }
+
     /**
      * Method landOn is responsible for triggering the payBank method
      * which deducts the cost by passing through a parameter.
@@ -22,4 +26,9 @@ public class ServiceField extends Field {
     public void landOn(Player player) {
         player.payBank(cost);
     }
+
+    @Override
+    public Field copy() {
+        return new ServiceField(cost);
+    }
 }
@@ -0,0 +1,28 @@
+package players;
+
+import java.util.List;
+
+/**
+ * The BuiltInStrategies class provides the strategies of the original game.
+ */
+public final class BuiltInStrategies implements StrategyProvider {
+    /**
+     * Always buys if has enough money.
+     */
+    public static final StrategyRules GREEDY = new StrategyRules("Greedy", 1000, 4000, 0);
+
+    /**
+     * Buys only if the price is at most half of the money.
+     */
+    public static final StrategyRules CAREFUL = new StrategyRules("Careful", 2000, 8000, 0);
+
+    /**
+     * Buys like the Greedy player, but skips every second decision.
+     */
+    public static final StrategyRules TACTICAL = new StrategyRules("Tactical", 1000, 4000, 1);
+
+    @Override
+    public List<StrategyRules> getStrategies() {
+        return List.of(GREEDY, CAREFUL, TACTICAL);
+    }
+}
@@ -1,16 +1,21 @@
 package players;
 
 import game.Board;
+import game.GameEventSink;
+import game.Portfolio;
 import game.PropertyField;
-import java.util.ArrayList;
-import java.util.List;
 
 public abstract class Player {
     protected String name;
     protected int money;
     protected int position;
-    protected List<PropertyField> ownedProperties;
+    protected final Portfolio portfolio;
     protected boolean bankrupt;
+    /**
+     * Where the player sends what happens to it, and its seat in the game, set by the game it plays in.
+     */
+    protected GameEventSink events;
+    protected int seat;
 
     /**
      * Constructor Player is responsible for setting the initial data of the players.
@@ -20,8 +25,19 @@ public abstract class Player {
         this.name = name;
         this.money = 10000;
         this.position = 0;
-        this.ownedProperties = new ArrayList<>();
+        this.portfolio = new Portfolio();
         this.bankrupt = false;
+        this.events = GameEventSink.NO_EVENTS;
+    }
+
+    /**
+     * Method setEventSink is responsible for setting where the player sends its events and which seat it has.
+     * @param events the sink, GameEventSink.NO_EVENTS if the game is not recorded
+     * @param seat
+     */
+    public void setEventSink(GameEventSink events, int seat) {
+        this.events = events;
+        this.seat = seat;
     }
 
     /**
@@ -31,6 +47,7 @@ public abstract class Player {
      */
     public void move(int roll, Board board) {
         position = (position + roll) % board.fields.size();
+        events.turn(seat, roll, position);
         board.getField(position).landOn(this);
     }
 
@@ -44,6 +61,7 @@ public abstract class Player {
         if (money >= amount) {
             money -= amount;
             owner.receiveMoney(amount);
+            events.rentPaid(seat, owner.seat, amount);
         } else {
             bankrupt();
         }
@@ -57,6 +75,7 @@ public abstract class Player {
     public void payBank(int amount) {
         if (money >= amount) {
             money -= amount;
+            events.bankPaid(seat, amount);
         } else {
             bankrupt();
         }
@@ -70,6 +89,15 @@ public abstract class Player {
         money += amount;
     }
 
+    /**
+     * Method receiveReward is responsible for paying the reward of a lucky field to the player.
+     * @param amount
+     */
+    public void receiveReward(int amount) {
+        money += amount;
+        events.rewarded(seat, amount);
+    }
+
     /**
      * Method considerBuying is responsible for the strategies of the players.
      * Implementation will be found on subclasses of players.
@@ -79,12 +107,87 @@ public abstract class Player {
 
     }
 
+    /**
+     * Method buy is responsible for buying the property the player is standing on.
+     * @param property
+     */
+    protected void buy(PropertyField property) {
+        property.buy(this);
+        money -= PropertyField.PROPERTY_COST;
+        events.bought(seat, position, PropertyField.PROPERTY_COST);
+    }
+
+    /**
+     * Method buildHouse is responsible for building a house on the property the player is standing on.
+     * @param property
+     */
+    protected void buildHouse(PropertyField property) {
+        property.buildHouse();
+        money -= PropertyField.HOUSE_COST;
+        events.houseBuilt(seat, position, PropertyField.HOUSE_COST);
+    }
+
+    /**
+     * Method getStrategyState is responsible for returning the part of the state of the strategy
+     * that changes during a game, packed into an int, so that it can be saved in a snapshot.
+     * @return 0 for strategies without such state
+     */
+    public int getStrategyState() {
+        return 0;
+    }
+
+    /**
+     * Method setStrategyState is responsible for setting a state returned by getStrategyState.
+     * @param strategyState
+     */
+    public void setStrategyState(int strategyState) {
+
+    }
+
+    /**
+     * Method restore is responsible for putting the player back into a state saved in a snapshot.
+     * The properties the player owns now are released; the saved ones are given back with restoreProperty.
+     * @param money
+     * @param position
+     * @param bankrupt
+     * @param strategyState
+     */
+    public void restore(int money, int position, boolean bankrupt, int strategyState) {
+        portfolio.releaseAll();
+        this.money = money;
+        this.position = position;
+        this.bankrupt = bankrupt;
+        setStrategyState(strategyState);
+    }
+
+    /**
+     * Method restoreProperty is responsible for giving a property back to the player when restoring a snapshot,
+     * without paying for it.
+     * @param property
+     */
+    public void restoreProperty(PropertyField property) {
+        property.buy(this);
+    }
+
+    /**
+     * Method copy is responsible for creating a new player with the same name and strategy,
+     * in the state it has at the start of a game.
+     * @return
+     */
+    public abstract Player copy();
+
+    /**
+     * Method getStrategy is responsible for returning the name of the strategy, as written in the game file.
+     * @return
+     */
+    public abstract String getStrategy();
+
     /**
      * Method bankrupt is responsible for clearing out the properties of the player that lost the game.
      */
     public void bankrupt() {
         bankrupt = true;
-        ownedProperties.clear();
+        portfolio.releaseAll();
     }
 
     /**
@@ -111,12 +214,29 @@ public abstract class Player {
         return money;
     }
 
+    /**
+     * Method getPortfolio is responsible for returning the index of the properties the player owns.
+     * @return
+     */
+    public Portfolio getPortfolio() {
+        return portfolio;
+    }
+
+    /**
+     * Method getNetWorth is responsible for returning the money of the player
+     * plus what their properties and houses cost.
+     * @return
+     */
+    public int getNetWorth() {
+        return money + portfolio.getValue();
+    }
+
     /**
      * Method toString is responsible for returning the data of current player status in a string format.
      * @return
      */
     @Override
     public String toString() {
-        return "Player: " + name + ", Money: " + money + ", Properties: " + ownedProperties.size();
+        return "Player: " + name + ", Money: " + money + ", Properties: " + portfolio.getNumberOfProperties();
     }
 }
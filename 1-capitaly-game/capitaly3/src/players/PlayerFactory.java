@@ -0,0 +1,86 @@
+package players;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The PlayerFactory class creates players from the strategy names used in the game file.
+ * The strategies are the built-in ones followed by the ones of every StrategyProvider found by ServiceLoader.
+ */
+public final class PlayerFactory {
+    private static final Map<String, StrategyRules> RULES = loadRules();
+
+    /**
+     * The names of all strategies, as written in the game file.
+     */
+    public static final List<String> STRATEGIES = List.copyOf(RULES.keySet());
+
+    private PlayerFactory() {
+    }
+
+    /**
+     * Method loadRules is responsible for collecting the strategies of the built-in and the registered providers.
+     * @return the rules by strategy name, in the order they were provided
+     * @throws IllegalStateException if two strategies have the same name
+     */
+    private static Map<String, StrategyRules> loadRules() {
+        List<StrategyProvider> providers = new ArrayList<>();
+        providers.add(new BuiltInStrategies());
+        for (StrategyProvider provider : ServiceLoader.load(StrategyProvider.class)) {
+            if (!(provider instanceof BuiltInStrategies)) {
+                providers.add(provider);
+            }
+        }
+
+        Map<String, StrategyRules> rules = new LinkedHashMap<>();
+        for (StrategyProvider provider : providers) {
+            for (StrategyRules strategy : provider.getStrategies()) {
+                if (rules.putIfAbsent(strategy.getName(), strategy) != null) {
+                    throw new IllegalStateException("Strategy " + strategy.getName() + " is provided twice, again by "
+                            + provider.getClass().getName());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(rules);
+    }
+
+    /**
+     * Method getRules is responsible for finding the rules of a strategy.
+     * @param strategy the strategy name as written in the game file
+     * @return the rules
+     * @throws IllegalArgumentException if there is no such strategy
+     */
+    public static StrategyRules getRules(String strategy) {
+        StrategyRules rules = RULES.get(strategy);
+        if (rules == null) {
+            throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+        return rules;
+    }
+
+    /**
+     * Method create is responsible for creating a new player that plays with the given strategy.
+     * @param name the name of the player
+     * @param strategy the strategy name as written in the game file
+     * @return the player
+     * @throws IllegalArgumentException if there is no such strategy
+     */
+    public static Player create(String name, String strategy) {
+        return new RuleBasedPlayer(name, getRules(strategy));
+    }
+
+    /**
+     * Method create is responsible for creating a new player that plays with rules that need not be registered,
+     * for example while sweeping over the parameters of a strategy.
+     * @param name the name of the player
+     * @param rules
+     * @return the player
+     */
+    public static Player create(String name, StrategyRules rules) {
+        return new RuleBasedPlayer(name, rules);
+    }
+}
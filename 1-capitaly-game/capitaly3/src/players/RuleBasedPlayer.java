@@ -0,0 +1,72 @@
+package players;
+
+import game.PropertyField;
+
+/**
+ * The RuleBasedPlayer class is a player that buys according to a StrategyRules table.
+ */
+public class RuleBasedPlayer extends Player {
+    private final StrategyRules rules;
+    private int skipsLeft;
+
+    /**
+     * Constructor RuleBasedPlayer is responsible for creating a player that plays with the given rules.
+     * @param name
+     * @param rules
+     */
+    public RuleBasedPlayer(String name, StrategyRules rules) {
+        super(name);
+        this.rules = rules;
+        this.skipsLeft = 0;
+    }
+
+    /**
+     * Method considerBuying is responsible for applying the rules: after a decision the player skips as many
+     * decisions as the skip cadence says, otherwise it buys the property or builds a house if it has
+     * at least the threshold of money.
+     * @param property
+     */
+    @Override
+    public void considerBuying(PropertyField property) {
+        if (skipsLeft > 0) {
+            skipsLeft--;
+            return;
+        }
+
+        if (!property.isOwned() && money >= rules.getBuyThreshold()) {
+            buy(property);
+        } else if (property.canBuyHouse(this) && money >= rules.getHouseThreshold()) {
+            buildHouse(property);
+        }
+
+        skipsLeft = rules.getSkipCadence();
+    }
+
+    /**
+     * Method getStrategyState is responsible for returning the number of decisions the player still skips.
+     * @return
+     */
+    @Override
+    public int getStrategyState() {
+        return skipsLeft;
+    }
+
+    @Override
+    public void setStrategyState(int strategyState) {
+        skipsLeft = strategyState;
+    }
+
+    public StrategyRules getRules() {
+        return rules;
+    }
+
+    @Override
+    public Player copy() {
+        return new RuleBasedPlayer(name, rules);
+    }
+
+    @Override
+    public String getStrategy() {
+        return rules.getName();
+    }
+}
@@ -0,0 +1,16 @@
+package players;
+
+import java.util.List;
+
+/**
+ * The StrategyProvider interface lets other modules add strategies without changing PlayerFactory.
+ * An implementation is registered for java.util.ServiceLoader by listing its class name in
+ * META-INF/services/players.StrategyProvider, and needs a public constructor without parameters.
+ */
+public interface StrategyProvider {
+    /**
+     * Method getStrategies is responsible for returning the strategies of the provider.
+     * @return the rules of every strategy, each with a name no other provider uses
+     */
+    List<StrategyRules> getStrategies();
+}
@@ -0,0 +1,62 @@
+package players;
+
+import game.PropertyField;
+
+/**
+ * The StrategyRules class describes a buying strategy as a few numbers instead of code:
+ * the money a player needs to have to buy a property, the money it needs to have to build a house,
+ * and the number of purchase decisions it skips after each one it makes.
+ * RuleBasedPlayer and CompactGame both evaluate these numbers, so new strategies and whole sweeps of
+ * parameters need no new classes.
+ */
+public final class StrategyRules {
+    private final String name;
+    private final int buyThreshold;
+    private final int houseThreshold;
+    private final int skipCadence;
+
+    /**
+     * Constructor StrategyRules is responsible for checking and storing the rules of a strategy.
+     * @param name the strategy name as written in the game file
+     * @param buyThreshold the money needed to buy a property, at least its cost
+     * @param houseThreshold the money needed to build a house, at least its cost
+     * @param skipCadence the number of purchase decisions skipped after each one that is made
+     * @throws IllegalArgumentException if a threshold is below the cost or the cadence is negative
+     */
+    public StrategyRules(String name, int buyThreshold, int houseThreshold, int skipCadence) {
+        if (buyThreshold < PropertyField.PROPERTY_COST) {
+            throw new IllegalArgumentException("Buy threshold of " + name + " is below the cost of a property: " + buyThreshold);
+        }
+        if (houseThreshold < PropertyField.HOUSE_COST) {
+            throw new IllegalArgumentException("House threshold of " + name + " is below the cost of a house: " + houseThreshold);
+        }
+        if (skipCadence < 0) {
+            throw new IllegalArgumentException("Skip cadence of " + name + " is negative: " + skipCadence);
+        }
+        this.name = name;
+        this.buyThreshold = buyThreshold;
+        this.houseThreshold = houseThreshold;
+        this.skipCadence = skipCadence;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBuyThreshold() {
+        return buyThreshold;
+    }
+
+    public int getHouseThreshold() {
+        return houseThreshold;
+    }
+
+    public int getSkipCadence() {
+        return skipCadence;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (buy " + buyThreshold + ", house " + houseThreshold + ", skip " + skipCadence + ")";
+    }
+}
@@ -0,0 +1,60 @@
+package simulation;
+
+/**
+ * The ConfidenceInterval class holds the bounds of a confidence interval for a rate, such as a win rate.
+ */
+public final class ConfidenceInterval {
+    /**
+     * The z-score of a 95% confidence level.
+     */
+    public static final double Z_95 = 1.959963984540054;
+
+    private final double lower;
+    private final double upper;
+
+    private ConfidenceInterval(double lower, double upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Method wilson is responsible for computing the Wilson score interval of a rate.
+     * Unlike the usual normal approximation it stays inside [0, 1] and works for rates close to 0 or 1
+     * and for few trials.
+     * @param successes the number of successes, for example wins
+     * @param trials the number of trials, for example games played
+     * @param z the z-score of the confidence level, for example Z_95
+     * @return the interval, [0, 1] if there were no trials
+     */
+    public static ConfidenceInterval wilson(long successes, long trials, double z) {
+        if (successes < 0 || successes > trials) {
+            throw new IllegalArgumentException(successes + " successes in " + trials + " trials");
+        }
+        if (trials == 0) {
+            return new ConfidenceInterval(0, 1);
+        }
+        double rate = (double) successes / trials;
+        double zSquared = z * z;
+        double denominator = 1 + zSquared / trials;
+        double center = (rate + zSquared / (2.0 * trials)) / denominator;
+        double halfWidth = z * Math.sqrt(rate * (1 - rate) / trials + zSquared / (4.0 * trials * trials)) / denominator;
+        return new ConfidenceInterval(Math.max(0, center - halfWidth), Math.min(1, center + halfWidth));
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    public boolean contains(double value) {
+        return lower <= value && value <= upper;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%.4f, %.4f]", lower, upper);
+    }
+}
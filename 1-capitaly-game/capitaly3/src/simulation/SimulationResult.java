@@ -0,0 +1,89 @@
+package simulation;
+
+import game.Game;
+import players.Player;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SimulationResult class collects the outcome of many simulated games, grouped by strategy.
+ */
+public class SimulationResult {
+    private final Map<String, StrategyStatistics> statistics;
+    private long games;
+    private long gamesWithoutWinner;
+
+    /**
+     * Constructor SimulationResult is responsible for creating an empty result.
+     */
+    public SimulationResult() {
+        statistics = new LinkedHashMap<>();
+    }
+
+    /**
+     * Method record is responsible for adding the outcome of one finished game.
+     * @param game
+     */
+    public void record(Game game) {
+        games++;
+        Player winner = game.getWinner();
+        if (winner == null) {
+            gamesWithoutWinner++;
+        }
+        List<Player> seating = game.getSeating();
+        for (int seat = 0; seat < seating.size(); seat++) {
+            Player player = seating.get(seat);
+            statisticsFor(player.getStrategy())
+                    .record(player == winner, game.getBankruptcyRound(seat), player.getBalance());
+        }
+    }
+
+    /**
+     * Method merge is responsible for adding all outcomes collected by another result.
+     * @param other
+     */
+    public void merge(SimulationResult other) {
+        games += other.games;
+        gamesWithoutWinner += other.gamesWithoutWinner;
+        for (Map.Entry<String, StrategyStatistics> entry : other.statistics.entrySet()) {
+            statisticsFor(entry.getKey()).merge(entry.getValue());
+        }
+    }
+
+    private StrategyStatistics statisticsFor(String strategy) {
+        return statistics.computeIfAbsent(strategy, StrategyStatistics::new);
+    }
+
+    /**
+     * Method getStatistics is responsible for returning the statistics of one strategy.
+     * @param strategy the strategy name as written in the game file
+     * @return the statistics, or null if no player used the strategy
+     */
+    public StrategyStatistics getStatistics(String strategy) {
+        return statistics.get(strategy);
+    }
+
+    public Map<String, StrategyStatistics> getAllStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getGamesWithoutWinner() {
+        return gamesWithoutWinner;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Games: " + games + ", without winner: " + gamesWithoutWinner);
+        for (StrategyStatistics strategyStatistics : statistics.values()) {
+            builder.append(System.lineSeparator()).append(strategyStatistics);
+        }
+        return builder.toString();
+    }
+}
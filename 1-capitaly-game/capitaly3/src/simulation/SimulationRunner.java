@@ -0,0 +1,108 @@
+package simulation;
+
+import game.DiceProvider;
+import game.Game;
+import game.RandomDice;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The SimulationRunner class plays many independent copies of one parsed game in parallel,
+ * without printing anything, and collects the results per strategy.
+ */
+public class SimulationRunner {
+    private static final int GAMES_PER_TASK = 64;
+
+    private final Game template;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor SimulationRunner is responsible for preparing the simulation on the common fork-join pool.
+     * @param template the parsed game that is copied for every simulated game
+     * @param seed the seed from which the dice of every game are derived
+     */
+    public SimulationRunner(Game template, long seed) {
+        this(template, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor SimulationRunner is responsible for preparing the simulation on the given pool.
+     * @param template the parsed game that is copied for every simulated game
+     * @param seed the seed from which the dice of every game are derived
+     * @param pool the pool the games are played on
+     */
+    public SimulationRunner(Game template, long seed, ForkJoinPool pool) {
+        this.template = template;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Method run is responsible for playing the given number of games and merging their results.
+     * The same seed and number of games always give the same result, no matter how many threads are used.
+     * @param numberOfGames
+     * @return
+     */
+    public SimulationResult run(int numberOfGames) {
+        if (numberOfGames < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative: " + numberOfGames);
+        }
+        return pool.invoke(new SimulationTask(0, numberOfGames));
+    }
+
+    /**
+     * Method runGames is responsible for playing the games with indexes from (inclusive) to (exclusive) one after another.
+     * @param from
+     * @param to
+     * @return
+     */
+    private SimulationResult runGames(int from, int to) {
+        SimulationResult result = new SimulationResult();
+        for (int gameIndex = from; gameIndex < to; gameIndex++) {
+            Game game = template.copy(createDice(gameIndex));
+            game.simulate();
+            result.record(game);
+        }
+        return result;
+    }
+
+    /**
+     * Method createDice is responsible for creating the dice of one game.
+     * The rolls only depend on the seed and the index of the game, not on the thread that plays it.
+     * @param gameIndex
+     * @return
+     */
+    private DiceProvider createDice(int gameIndex) {
+        return RandomDice.forStream(seed, gameIndex);
+    }
+
+    /**
+     * The SimulationTask class splits a range of games in halves until it is small enough to be played on one thread.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        SimulationTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return runGames(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, middle);
+            left.fork();
+            SimulationResult result = new SimulationTask(middle, to).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+}
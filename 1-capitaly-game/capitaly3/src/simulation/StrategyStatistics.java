@@ -0,0 +1,155 @@
+package simulation;
+
+/**
+ * The StrategyStatistics class holds the aggregated outcome of every player that used one strategy:
+ * wins, bankruptcies and the distribution of final balances.
+ */
+public class StrategyStatistics {
+    /**
+     * Width of one bucket of the final balance histogram.
+     */
+    public static final int BALANCE_BUCKET_WIDTH = 1000;
+
+    /**
+     * Number of buckets of the final balance histogram, the last one also holds every higher balance.
+     */
+    public static final int BALANCE_BUCKETS = 64;
+
+    private final String strategy;
+    private long appearances;
+    private long wins;
+    private long bankruptcies;
+    private long bankruptcyRoundSum;
+    private long balanceSum;
+    private double balanceSquareSum;
+    private int minBalance = Integer.MAX_VALUE;
+    private int maxBalance = Integer.MIN_VALUE;
+    private final long[] balanceHistogram;
+
+    /**
+     * Constructor StrategyStatistics is responsible for creating empty statistics for a strategy.
+     * @param strategy the strategy name as written in the game file
+     */
+    public StrategyStatistics(String strategy) {
+        this.strategy = strategy;
+        this.balanceHistogram = new long[BALANCE_BUCKETS];
+    }
+
+    /**
+     * Method record is responsible for adding the outcome of one player.
+     * @param won whether the player won the game
+     * @param bankruptcyRound the round the player went bankrupt in, or -1
+     * @param balance the money of the player at the end of the game
+     */
+    void record(boolean won, int bankruptcyRound, int balance) {
+        appearances++;
+        if (won) {
+            wins++;
+        }
+        if (bankruptcyRound >= 0) {
+            bankruptcies++;
+            bankruptcyRoundSum += bankruptcyRound;
+        }
+        balanceSum += balance;
+        balanceSquareSum += (double) balance * balance;
+        minBalance = Math.min(minBalance, balance);
+        maxBalance = Math.max(maxBalance, balance);
+        int bucket = Math.max(0, Math.min(BALANCE_BUCKETS - 1, balance / BALANCE_BUCKET_WIDTH));
+        balanceHistogram[bucket]++;
+    }
+
+    /**
+     * Method merge is responsible for adding the statistics collected for the same strategy elsewhere.
+     * @param other
+     */
+    void merge(StrategyStatistics other) {
+        appearances += other.appearances;
+        wins += other.wins;
+        bankruptcies += other.bankruptcies;
+        bankruptcyRoundSum += other.bankruptcyRoundSum;
+        balanceSum += other.balanceSum;
+        balanceSquareSum += other.balanceSquareSum;
+        minBalance = Math.min(minBalance, other.minBalance);
+        maxBalance = Math.max(maxBalance, other.maxBalance);
+        for (int i = 0; i < BALANCE_BUCKETS; i++) {
+            balanceHistogram[i] += other.balanceHistogram[i];
+        }
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public long getAppearances() {
+        return appearances;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getBankruptcies() {
+        return bankruptcies;
+    }
+
+    public double getWinRate() {
+        return appearances == 0 ? 0 : (double) wins / appearances;
+    }
+
+    /**
+     * Method getWinRateInterval is responsible for returning the 95% Wilson confidence interval of the win rate.
+     * @return
+     */
+    public ConfidenceInterval getWinRateInterval() {
+        return ConfidenceInterval.wilson(wins, appearances, ConfidenceInterval.Z_95);
+    }
+
+    public double getBankruptcyRate() {
+        return appearances == 0 ? 0 : (double) bankruptcies / appearances;
+    }
+
+    /**
+     * Method getAverageBankruptcyRound is responsible for returning the average round of the bankruptcies.
+     * @return the average round, or -1 if no player of this strategy went bankrupt
+     */
+    public double getAverageBankruptcyRound() {
+        return bankruptcies == 0 ? -1 : (double) bankruptcyRoundSum / bankruptcies;
+    }
+
+    public double getAverageBalance() {
+        return appearances == 0 ? 0 : (double) balanceSum / appearances;
+    }
+
+    public double getBalanceStandardDeviation() {
+        if (appearances == 0) {
+            return 0;
+        }
+        double average = getAverageBalance();
+        return Math.sqrt(Math.max(0, balanceSquareSum / appearances - average * average));
+    }
+
+    public int getMinBalance() {
+        return minBalance;
+    }
+
+    public int getMaxBalance() {
+        return maxBalance;
+    }
+
+    /**
+     * Method getBalanceHistogram is responsible for returning how many players ended in each balance bucket.
+     * Bucket i holds balances from i * BALANCE_BUCKET_WIDTH up to the next bucket.
+     * @return a copy of the histogram
+     */
+    public long[] getBalanceHistogram() {
+        return balanceHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Strategy: %s, Players: %d, Win rate: %.4f, Bankruptcy rate: %.4f, "
+                        + "Avg bankruptcy round: %.2f, Avg balance: %.1f, Balance std dev: %.1f",
+                strategy, appearances, getWinRate(), getBankruptcyRate(),
+                getAverageBankruptcyRound(), getAverageBalance(), getBalanceStandardDeviation());
+    }
+}
@@ -0,0 +1,176 @@
+package simulation;
+
+import game.DiceProvider;
+import game.Game;
+import game.RandomDice;
+import players.Player;
+import players.PlayerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The Tournament class plays the strategies against each other in every seating on one parsed board.
+ * A seating is an ordered list of strategies, from two players up to the largest number of players,
+ * so every mix of strategies is played in every order. Every seating plays the same dice,
+ * so the seatings only differ in who sits where.
+ * The games are split into tasks on a fork-join pool, whose idle threads steal the unfinished halves of busy ones.
+ */
+public class Tournament {
+    private static final int GAMES_PER_TASK = 64;
+
+    private final Game template;
+    private final List<List<String>> seatings;
+    private final int maxPlayers;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor Tournament is responsible for preparing a tournament of all strategies on the common fork-join pool.
+     * @param template the parsed game whose board and number of rounds every game uses
+     * @param maxPlayers the largest number of players in one game
+     * @param seed the seed from which the dice of every game are derived
+     */
+    public Tournament(Game template, int maxPlayers, long seed) {
+        this(template, PlayerFactory.STRATEGIES, maxPlayers, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor Tournament is responsible for preparing a tournament of the given strategies on the given pool.
+     * @param template the parsed game whose board and number of rounds every game uses
+     * @param strategies the strategy names as written in the game file
+     * @param maxPlayers the largest number of players in one game
+     * @param seed the seed from which the dice of every game are derived
+     * @param pool the pool the games are played on
+     */
+    public Tournament(Game template, List<String> strategies, int maxPlayers, long seed, ForkJoinPool pool) {
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies");
+        }
+        if (maxPlayers < 2) {
+            throw new IllegalArgumentException("A game needs at least two players: " + maxPlayers);
+        }
+        for (String strategy : strategies) {
+            PlayerFactory.create("", strategy);
+        }
+        this.template = template;
+        this.seatings = seatings(strategies, maxPlayers);
+        this.maxPlayers = maxPlayers;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Method seatings is responsible for listing every ordered list of two to maxPlayers strategies
+     * in which at least two different strategies play.
+     * @param strategies
+     * @param maxPlayers
+     * @return
+     */
+    public static List<List<String>> seatings(List<String> strategies, int maxPlayers) {
+        List<List<String>> seatings = new ArrayList<>();
+        for (int players = 2; players <= maxPlayers; players++) {
+            addSeatings(strategies, new ArrayList<>(players), players, seatings);
+        }
+        return seatings;
+    }
+
+    private static void addSeatings(List<String> strategies, List<String> seating, int players,
+                                    List<List<String>> seatings) {
+        if (seating.size() == players) {
+            if (seating.stream().distinct().count() > 1) {
+                seatings.add(List.copyOf(seating));
+            }
+            return;
+        }
+        for (String strategy : strategies) {
+            seating.add(strategy);
+            addSeatings(strategies, seating, players, seatings);
+            seating.remove(seating.size() - 1);
+        }
+    }
+
+    public List<List<String>> getSeatings() {
+        return Collections.unmodifiableList(seatings);
+    }
+
+    /**
+     * Method run is responsible for playing every seating the given number of times and merging the results.
+     * The same seed and number of games always give the same result, no matter how many threads are used.
+     * @param gamesPerSeating the number of dice sequences every seating plays
+     * @return
+     */
+    public TournamentResult run(int gamesPerSeating) {
+        if (gamesPerSeating < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative: " + gamesPerSeating);
+        }
+        int numberOfGames = Math.multiplyExact(seatings.size(), gamesPerSeating);
+        return pool.invoke(new TournamentTask(0, numberOfGames, gamesPerSeating));
+    }
+
+    /**
+     * Method runGames is responsible for playing the games with indexes from (inclusive) to (exclusive) one after another.
+     * Game i is played by seating i / gamesPerSeating with dice sequence i % gamesPerSeating.
+     * @param from
+     * @param to
+     * @param gamesPerSeating
+     * @return
+     */
+    private TournamentResult runGames(int from, int to, int gamesPerSeating) {
+        TournamentResult result = new TournamentResult(maxPlayers);
+        for (int gameIndex = from; gameIndex < to; gameIndex++) {
+            Game game = createGame(seatings.get(gameIndex / gamesPerSeating), gameIndex % gamesPerSeating);
+            game.simulate();
+            result.record(game);
+        }
+        return result;
+    }
+
+    /**
+     * Method createGame is responsible for seating new players with the given strategies at a copy of the template.
+     * @param seating
+     * @param diceIndex
+     * @return
+     */
+    private Game createGame(List<String> seating, int diceIndex) {
+        List<Player> players = new ArrayList<>(seating.size());
+        for (int seat = 0; seat < seating.size(); seat++) {
+            players.add(PlayerFactory.create("Seat" + (seat + 1), seating.get(seat)));
+        }
+        DiceProvider dice = RandomDice.forStream(seed, diceIndex);
+        return template.copy(players, dice);
+    }
+
+    /**
+     * The TournamentTask class splits a range of games in halves until it is small enough to be played on one thread.
+     */
+    private class TournamentTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int gamesPerSeating;
+
+        TournamentTask(int from, int to, int gamesPerSeating) {
+            this.from = from;
+            this.to = to;
+            this.gamesPerSeating = gamesPerSeating;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return runGames(from, to, gamesPerSeating);
+            }
+            int middle = (from + to) >>> 1;
+            TournamentTask left = new TournamentTask(from, middle, gamesPerSeating);
+            left.fork();
+            TournamentResult result = new TournamentTask(middle, to, gamesPerSeating).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+}
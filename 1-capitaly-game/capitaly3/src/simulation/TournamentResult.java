@@ -0,0 +1,137 @@
+package simulation;
+
+import game.Game;
+import players.Player;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The TournamentResult class collects the outcome of the games of a tournament, per strategy and per seat,
+ * and ranks the strategies by their win rate.
+ */
+public class TournamentResult {
+    private final int maxPlayers;
+    private final SimulationResult result;
+    private final Map<String, long[]> seatAppearances;
+    private final Map<String, long[]> seatWins;
+
+    /**
+     * Constructor TournamentResult is responsible for creating an empty result.
+     * @param maxPlayers the largest number of players in one game
+     */
+    public TournamentResult(int maxPlayers) {
+        this.maxPlayers = maxPlayers;
+        this.result = new SimulationResult();
+        this.seatAppearances = new LinkedHashMap<>();
+        this.seatWins = new LinkedHashMap<>();
+    }
+
+    /**
+     * Method record is responsible for adding the outcome of one finished game.
+     * @param game
+     */
+    public void record(Game game) {
+        result.record(game);
+        Player winner = game.getWinner();
+        List<Player> seating = game.getSeating();
+        for (int seat = 0; seat < seating.size(); seat++) {
+            Player player = seating.get(seat);
+            seatAppearancesFor(player.getStrategy())[seat]++;
+            if (player == winner) {
+                seatWinsFor(player.getStrategy())[seat]++;
+            }
+        }
+    }
+
+    /**
+     * Method merge is responsible for adding all outcomes collected by another result.
+     * @param other
+     */
+    public void merge(TournamentResult other) {
+        result.merge(other.result);
+        for (Map.Entry<String, long[]> entry : other.seatAppearances.entrySet()) {
+            add(seatAppearancesFor(entry.getKey()), entry.getValue());
+        }
+        for (Map.Entry<String, long[]> entry : other.seatWins.entrySet()) {
+            add(seatWinsFor(entry.getKey()), entry.getValue());
+        }
+    }
+
+    private static void add(long[] target, long[] values) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += values[i];
+        }
+    }
+
+    private long[] seatAppearancesFor(String strategy) {
+        return seatAppearances.computeIfAbsent(strategy, key -> new long[maxPlayers]);
+    }
+
+    private long[] seatWinsFor(String strategy) {
+        return seatWins.computeIfAbsent(strategy, key -> new long[maxPlayers]);
+    }
+
+    /**
+     * Method getRanking is responsible for returning the statistics of the strategies from best to worst.
+     * The strategies are ranked by the lower bound of the 95% confidence interval of their win rate,
+     * so a strategy only ranks first when it is ahead by more than chance.
+     * @return
+     */
+    public List<StrategyStatistics> getRanking() {
+        List<StrategyStatistics> ranking = new ArrayList<>(result.getAllStatistics().values());
+        ranking.sort(Comparator.comparingDouble((StrategyStatistics statistics) -> statistics.getWinRateInterval().getLower())
+                .thenComparingDouble(StrategyStatistics::getWinRate)
+                .reversed());
+        return ranking;
+    }
+
+    /**
+     * Method getSeatWinRate is responsible for returning how often the strategy won when it sat on the given seat.
+     * @param strategy the strategy name as written in the game file
+     * @param seat the seat, starting from 0
+     * @return the win rate, or 0 if the strategy never sat there
+     */
+    public double getSeatWinRate(String strategy, int seat) {
+        long[] appearances = seatAppearances.get(strategy);
+        if (appearances == null || appearances[seat] == 0) {
+            return 0;
+        }
+        return (double) seatWins.get(strategy)[seat] / appearances[seat];
+    }
+
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    public long getGames() {
+        return result.getGames();
+    }
+
+    /**
+     * Method toString is responsible for formatting the ranking as a table,
+     * with the win rate of every strategy on every seat.
+     * @return
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format("%-4s %-10s %10s %9s %-18s %12s",
+                "Rank", "Strategy", "Games", "Win rate", "95% CI", "Avg balance"));
+        for (int seat = 0; seat < maxPlayers; seat++) {
+            builder.append(String.format(" %7s", "Seat " + (seat + 1)));
+        }
+        int rank = 1;
+        for (StrategyStatistics statistics : getRanking()) {
+            builder.append(System.lineSeparator()).append(String.format("%-4d %-10s %10d %9.4f %-18s %12.1f",
+                    rank++, statistics.getStrategy(), statistics.getAppearances(), statistics.getWinRate(),
+                    statistics.getWinRateInterval(), statistics.getAverageBalance()));
+            for (int seat = 0; seat < maxPlayers; seat++) {
+                builder.append(String.format(" %7.4f", getSeatWinRate(statistics.getStrategy(), seat)));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -4,6 +4,7 @@ import game.*;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
 import java.io.IOException;
 
 public class BlackBox {
@@ -59,5 +60,41 @@ public class BlackBox {
         assertTrue(true, "The game should initialize successfully.");
     }
 
+    /**
+     * Test Case 4: Memory-Mapped Rolls In Text And Binary Format, Including Wrapping
+     * @throws IOException
+     */
+    @Test
+    public void testMappedDiceRollsFromFile() throws IOException {
+        File binaryFile = File.createTempFile("dice", ".bin");
+        binaryFile.deleteOnExit();
+        assertEquals(5, Dice.writeBinary("dice.txt", binaryFile.getPath()));
+
+        Dice dice = new Dice("dice.txt");
+        Dice mappedDice = Dice.mapped("dice.txt");
+        Dice binaryDice = Dice.mappedBinary(binaryFile.getPath());
+        for (int i = 0; i < 12; i++) {
+            int roll = dice.roll();
+            assertEquals(roll, mappedDice.roll());
+            assertEquals(roll, binaryDice.roll());
+        }
+    }
+
+    /**
+     * Test Case 5: Seeded Random Dice Are Reproducible
+     */
+    @Test
+    public void testRandomDiceAreReproducible() {
+        RandomDice dice = new RandomDice(2024);
+        RandomDice sameDice = new RandomDice(2024);
+        for (int i = 0; i < 1000; i++) {
+            int roll = dice.roll();
+            assertTrue(roll >= 1 && roll <= 6);
+            assertEquals(roll, sameDice.roll());
+        }
+        assertEquals(dice.split().roll(), sameDice.split().roll());
+        assertEquals(RandomDice.forStream(2024, 3).roll(), RandomDice.forStream(2024, 3).roll());
+    }
+
 }
 
@@ -6,6 +6,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import players.Player;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import simulation.SimulationResult;
+import simulation.SimulationRunner;
+import simulation.StrategyStatistics;
+import simulation.Tournament;
+import simulation.TournamentResult;
 
 class WhiteBox {
     private Game game;
@@ -15,5 +31,244 @@ class WhiteBox {
         game = new Game("game.txt", "dice.txt");
     }
 
-}
+    /**
+     * Test Case 1: Simulating Many Games From One Template
+     */
+    @Test
+    void testSimulationRunnerCountsEveryPlayer() {
+        SimulationResult result = new SimulationRunner(game, 42).run(500);
+
+        assertEquals(500, result.getGames());
+        long wins = 0;
+        for (StrategyStatistics statistics : result.getAllStatistics().values()) {
+            assertEquals(500, statistics.getAppearances());
+            wins += statistics.getWins();
+        }
+        assertEquals(500 - result.getGamesWithoutWinner(), wins);
+        assertEquals(result.toString(), new SimulationRunner(game, 42).run(500).toString());
+    }
+
+    /**
+     * Test Case 2: Compact Game Gives The Same Results As The Object Model
+     */
+    @Test
+    void testCompactGameMatchesObjectModel() {
+        Random random = new Random(7);
+        for (int run = 0; run < 100; run++) {
+            List<Integer> rolls = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                rolls.add(random.nextInt(6) + 1);
+            }
+            Game objectGame = game.copy(new Dice(rolls));
+            CompactGame compactGame = new CompactGame(game, new Dice(rolls));
+            objectGame.simulate();
+            compactGame.play();
+
+            List<String> expected = new ArrayList<>();
+            for (Player player : objectGame.getPlayers()) {
+                expected.add(player.toString());
+            }
+            assertEquals(expected, compactGame.getResults());
+            assertEquals(objectGame.getRoundsPlayed(), compactGame.getRoundsPlayed());
+        }
+    }
+
+    /**
+     * Test Case 3: Tournament Plays Every Seating
+     */
+    @Test
+    void testTournamentPlaysEverySeating() {
+        Tournament tournament = new Tournament(game, 3, 42);
+        // 3 * 3 - 3 seatings of two players and 3 * 3 * 3 - 3 of three, without the ones of a single strategy
+        assertEquals(30, tournament.getSeatings().size());
+
+        TournamentResult result = tournament.run(20);
+        assertEquals(600, result.getGames());
+        long appearances = 0;
+        for (StrategyStatistics statistics : result.getRanking()) {
+            appearances += statistics.getAppearances();
+            assertTrue(statistics.getWinRateInterval().contains(statistics.getWinRate()));
+        }
+        assertEquals(20 * (6 * 2 + 24 * 3), appearances);
+        assertEquals(result.toString(), new Tournament(game, 3, 42).run(20).toString());
+    }
+
+    /**
+     * Test Case 4: Game File Parser Validates Text Files And Reads Binary Files
+     */
+    @Test
+    void testGameFileParserValidatesAndReadsBinary() throws IOException {
+        assertThrows(IOException.class, () -> parse("3\nP\nP\n1\nAnna Greedy\n5\n"));
+        assertThrows(IOException.class, () -> parse("2\nP\nX 5\n1\nAnna Greedy\n5\n"));
+        assertThrows(IOException.class, () -> parse("2\nP\nS\n1\nAnna Greedy\n5\n"));
+        assertThrows(IOException.class, () -> parse("2\nP\nP\n1\nAnna Lazy\n5\n"));
+        assertEquals(2, parse("2\r\nP\r\nL -20\r\n1\r\nAnna Greedy\r\n5\r\n").getNumberOfFields());
+
+        Path binaryFile = Files.createTempFile("game", ".bin");
+        try {
+            assertEquals(5, GameFileParser.writeBinary("game.txt", binaryFile.toString()));
+            Game textGame = new Game("game.txt", "dice.txt");
+            Game binaryGame = new Game(binaryFile.toString(), "dice.txt");
+            textGame.simulate();
+            binaryGame.simulate();
+            assertEquals(textGame.getPlayers().toString(), binaryGame.getPlayers().toString());
+        } finally {
+            Files.delete(binaryFile);
+        }
+    }
+
+    /**
+     * Test Case 5: Replaying The Event Log Rebuilds The Game
+     */
+    @Test
+    void testEventLogReplaysGame() throws IOException {
+        for (long seed = 0; seed < 50; seed++) {
+            Game recorded = game.copy(new RandomDice(seed));
+            ByteArrayOutputStream log = new ByteArrayOutputStream();
+            GameLogWriter writer = new GameLogWriter(log, recorded);
+            recorded.setEventSink(writer);
+            recorded.simulate();
+            writer.close();
+
+            GameLogReader reader = new GameLogReader(new ByteArrayInputStream(log.toByteArray()));
+            GameReplay replay = new GameReplay(reader);
+            reader.replay(replay);
+            List<Player> seating = recorded.getSeating();
+            for (int seat = 0; seat < seating.size(); seat++) {
+                Player player = seating.get(seat);
+                assertEquals(player.getName(), reader.getName(seat));
+                assertEquals(player.getBalance(), replay.getMoney(seat));
+                assertEquals(player.getPosition(), replay.getPosition(seat));
+                assertEquals(player.isBankrupt(), replay.isBankrupt(seat));
+            }
+            assertEquals(recorded.getRoundsPlayed() - 1, replay.getRound());
+            assertEquals(recorded.getPlayers().size(), replay.getPlayersLeft());
+        }
+    }
 
+    /**
+     * Test Case 6: Restoring A Snapshot Continues The Game Exactly
+     */
+    @Test
+    void testSnapshotRestoresGame() throws IOException {
+        for (long seed = 0; seed < 50; seed++) {
+            Game expected = game.copy(new RandomDice(seed));
+            expected.simulate();
+
+            Game played = game.copy(new RandomDice(seed));
+            played.simulateUntil((int) seed % (game.getRounds() + 1));
+            GameSnapshot snapshot = GameSnapshot.fromByteBuffer(played.snapshot().toByteBuffer());
+            played.simulate();
+            assertEquals(expected.getSeating().toString(), played.getSeating().toString());
+
+            Game restored = game.copy(new RandomDice(-1));
+            restored.restore(snapshot);
+            restored.simulate();
+            assertEquals(expected.getSeating().toString(), restored.getSeating().toString());
+            assertEquals(expected.getPlayers().toString(), restored.getPlayers().toString());
+            assertEquals(expected.getRoundsPlayed(), restored.getRoundsPlayed());
+        }
+    }
+
+    /**
+     * Test Case 7: Portfolios Match The Owners On The Board
+     */
+    @Test
+    void testPortfoliosMatchBoard() {
+        Board board = new Board(40);
+        for (int i = 0; i < 40; i++) {
+            board.addField(i % 5 == 4 ? new ServiceField(1500) : new PropertyField());
+        }
+        List<Player> players = List.of(new GreedyPlayer("G"), new CarefulPlayer("C"), new TacticalPlayer("T"));
+
+        PropertyField first = (PropertyField) board.getField(0);
+        PropertyField second = (PropertyField) board.getField(1);
+        Player greedy = players.get(0);
+        first.buy(greedy);
+        second.buy(greedy);
+        first.buildHouse();
+        first.buildHouse();
+        assertEquals(2, greedy.getPortfolio().getNumberOfProperties());
+        assertEquals(1, greedy.getPortfolio().getNumberOfHouses());
+        assertEquals(10000 + 2 * 1000 + 4000, greedy.getNetWorth());
+        assertEquals(500 + 2000, greedy.getPortfolio().getRentExposure());
+        first.buy(players.get(1));
+        assertEquals(1, greedy.getPortfolio().getNumberOfProperties());
+        assertEquals(0, greedy.getPortfolio().getNumberOfHouses());
+        assertSame(second, greedy.getPortfolio().get(0));
+        board.releaseProperties(greedy);
+        board.releaseProperties(players.get(1));
+        assertEquals(0, greedy.getPortfolio().getValue());
+        assertFalse(second.isOwned());
+
+        Random random = new Random(11);
+        for (int turn = 0; turn < 600; turn++) {
+            Player player = players.get(turn % players.size());
+            if (player.isBankrupt()) {
+                continue;
+            }
+            player.move(random.nextInt(6) + 1, board);
+            if (player.isBankrupt()) {
+                board.releaseProperties(player);
+            }
+
+            for (Player owner : players) {
+                int properties = 0;
+                int houses = 0;
+                for (Field field : board.fields) {
+                    if (field instanceof PropertyField && ((PropertyField) field).getOwner() == owner) {
+                        properties++;
+                        houses += ((PropertyField) field).hasHouse() ? 1 : 0;
+                    }
+                }
+                Portfolio portfolio = owner.getPortfolio();
+                assertEquals(properties, portfolio.getNumberOfProperties());
+                assertEquals(houses, portfolio.getNumberOfHouses());
+                assertEquals(owner.getBalance() + properties * 1000 + houses * 4000, owner.getNetWorth());
+                assertEquals((properties - houses) * 500 + houses * 2000, portfolio.getRentExposure());
+                for (int i = 0; i < properties; i++) {
+                    assertSame(owner, portfolio.get(i).getOwner());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test Case 8: Strategy Rules Play The Same In Both Models
+     */
+    @Test
+    void testStrategyRulesMatchCompactGame() {
+        assertEquals(List.of("Greedy", "Careful", "Tactical"), PlayerFactory.STRATEGIES.subList(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> PlayerFactory.create("A", "Reckless"));
+        assertThrows(IllegalArgumentException.class, () -> new StrategyRules("Broke", 999, 4000, 0));
+
+        Random random = new Random(5);
+        List<Player> seating = game.getSeating();
+        CompactGame compactGame = new CompactGame(game, new RandomDice(0));
+        for (int run = 0; run < 100; run++) {
+            List<Player> players = new ArrayList<>();
+            for (int seat = 0; seat < seating.size(); seat++) {
+                StrategyRules rules = new StrategyRules("Sweep" + seat, 1000 + random.nextInt(8) * 500,
+                        4000 + random.nextInt(8) * 1000, random.nextInt(4));
+                players.add(PlayerFactory.create(seating.get(seat).getName(), rules));
+                compactGame.setRules(seat, rules);
+            }
+            Game objectGame = game.copy(players, new RandomDice(run));
+            compactGame.setDice(new RandomDice(run));
+            compactGame.reset();
+            objectGame.simulate();
+            compactGame.play();
+
+            List<String> expected = new ArrayList<>();
+            for (Player player : objectGame.getPlayers()) {
+                expected.add(player.toString());
+            }
+            assertEquals(expected, compactGame.getResults());
+            assertEquals(objectGame.getRoundsPlayed(), compactGame.getRoundsPlayed());
+        }
+    }
+
+    private static GameFileParser parse(String text) throws IOException {
+        return GameFileParser.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,18 +1,21 @@
 package gameGUI;
 
 import gameLogic.Board;
-import gameLogic.Field;
+import gameLogic.ClockSolver;
 
 import javax.swing.*;
 import java.awt.*;
 
 /**
  * The BoardGUI class represents the graphical user interface for a game board.
+ * It listens to the board's clock changes, so a click only updates the buttons of the clocks it turned.
  */
 public class BoardGUI {
     private Board board;
     private final JPanel boardPanel;
     private JButton[][] buttons;
+    private JButton undoButton;
+    private JButton redoButton;
 
     /**
      * Constructs a new BoardGUI instance for a game board.
@@ -32,7 +35,12 @@ public class BoardGUI {
         gbc.weighty = 1.0;
 
         initializeBoardButtons(gbc);
+        board.setClockChangeListener(this::updateButtonText);
         addExtraButtons(gbc);
+        if (boardSize == ClockSolver.BOARD_SIZE) {
+            addHintButton(gbc);
+        }
+        addUndoRedoButtons(gbc);
     }
 
     /**
@@ -44,8 +52,7 @@ public class BoardGUI {
         int boardSize = board.getBoardSize();
         for (int i = 0; i < boardSize; ++i) {
             for (int j = 0; j < boardSize; ++j) {
-                Field field = board.get(i, j);
-                JButton button = createBoardButton(field);
+                JButton button = createBoardButton(board.getNumber(i, j));
                 buttons[i][j] = button;
                 gbc.gridx = j * 2;
                 gbc.gridy = i * 2;
@@ -55,14 +62,14 @@ public class BoardGUI {
     }
 
     /**
-     * Creates a JButton representing a field on the game board.
+     * Creates a JButton representing a clock on the game board.
      *
-     * @param field The Field object containing the data for this button.
-     * @return A JButton configured with the field's properties.
+     * @param number The number currently shown by the clock.
+     * @return A JButton configured with the clock's properties.
      */
-    private JButton createBoardButton(Field field) {
+    private JButton createBoardButton(int number) {
         JButton button = new JButton();
-        button.setText(String.valueOf(field.getNumber()));
+        button.setText(String.valueOf(number));
         button.setFont(new Font("Arial", Font.BOLD, 20));
         button.setEnabled(false);
         button.setPreferredSize(new Dimension(90, 90));
@@ -76,22 +83,16 @@ public class BoardGUI {
     }
 
     /**
-     * Adds extra control buttons to the board panel at specific positions.
+     * Adds extra control buttons to the board panel, one between every 2x2 block of clocks.
      *
      * @param gbc The GridBagConstraints used for layout management.
      */
     private void addExtraButtons(GridBagConstraints gbc) {
-        String[] extraButtonNames = {"Button 1", "Button 2", "Button 3", "Button 4"};
-        int[][] positions = {
-                {1, 1}, {1, 3}, {3, 1}, {3, 3}
-        };
-
-        for (int i = 0; i < 4; i++) {
-            JButton extraButton = createExtraButton(extraButtonNames[i], i);
-            int x = positions[i][0];
-            int y = positions[i][1];
-            gbc.gridx = y;
-            gbc.gridy = x;
+        int buttonsPerRow = board.getBoardSize() - 1;
+        for (int i = 0; i < board.getButtonCount(); i++) {
+            JButton extraButton = createExtraButton("Button " + (i + 1), i);
+            gbc.gridx = (i % buttonsPerRow) * 2 + 1;
+            gbc.gridy = (i / buttonsPerRow) * 2 + 1;
             boardPanel.add(extraButton, gbc);
         }
     }
@@ -117,31 +118,120 @@ public class BoardGUI {
         return extraButton;
     }
 
+    /**
+     * Adds a hint button below the board, spanning its whole width.
+     *
+     * @param gbc The GridBagConstraints used for layout management.
+     */
+    private void addHintButton(GridBagConstraints gbc) {
+        JButton hintButton = new JButton("Hint");
+        hintButton.setFont(new Font("Arial", Font.BOLD, 14));
+        hintButton.setBackground(new Color(200, 230, 201));
+        hintButton.setForeground(Color.BLACK);
+        hintButton.setFocusPainted(false);
+        hintButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        hintButton.addActionListener(e -> showHint());
+
+        gbc.gridx = 0;
+        gbc.gridy = board.getBoardSize() * 2;
+        gbc.gridwidth = board.getBoardSize() * 2 - 1;
+        boardPanel.add(hintButton, gbc);
+        gbc.gridwidth = 1;
+    }
+
+    /**
+     * Adds the undo and redo buttons in a row below the board and the hint button.
+     *
+     * @param gbc The GridBagConstraints used for layout management.
+     */
+    private void addUndoRedoButtons(GridBagConstraints gbc) {
+        int boardSize = board.getBoardSize();
+        undoButton = createControlButton("Undo");
+        undoButton.addActionListener(e -> {
+            board.undo();
+            updateUndoRedoButtons();
+        });
+        redoButton = createControlButton("Redo");
+        redoButton.addActionListener(e -> {
+            board.redo();
+            updateUndoRedoButtons();
+            if (board.allClocksAreMaxed()) {
+                showCompletionMessage();
+            }
+        });
+
+        gbc.gridy = boardSize * 2 + 1;
+        gbc.gridx = 0;
+        gbc.gridwidth = boardSize;
+        boardPanel.add(undoButton, gbc);
+        gbc.gridx = boardSize;
+        gbc.gridwidth = Math.max(1, boardSize - 1);
+        boardPanel.add(redoButton, gbc);
+        gbc.gridwidth = 1;
+        updateUndoRedoButtons();
+    }
+
+    /**
+     * Creates a button for controlling the game, such as undo and redo.
+     *
+     * @param name The label to display on the button.
+     * @return A JButton configured with the specified label.
+     */
+    private JButton createControlButton(String name) {
+        JButton controlButton = new JButton(name);
+        controlButton.setFont(new Font("Arial", Font.BOLD, 14));
+        controlButton.setBackground(new Color(220, 220, 220));
+        controlButton.setForeground(Color.BLACK);
+        controlButton.setFocusPainted(false);
+        controlButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        return controlButton;
+    }
+
+    /**
+     * Enables the undo and redo buttons only when there is a click to undo or redo.
+     */
+    private void updateUndoRedoButtons() {
+        undoButton.setEnabled(board.canUndo());
+        redoButton.setEnabled(board.canRedo());
+    }
+
+    /**
+     * Shows which extra button to click next and how many clicks an optimal solution still needs.
+     */
+    private void showHint() {
+        int nextClick = ClockSolver.nextClick(board);
+        String message = nextClick < 0
+                ? "All clocks are already set to 12."
+                : "Click Button " + (nextClick + 1) + ". The puzzle can be solved in "
+                        + ClockSolver.minimumClicks(board) + " more clicks.";
+        JOptionPane.showMessageDialog(boardPanel, message, "Hint", JOptionPane.INFORMATION_MESSAGE);
+    }
+
     /**
      * Handles the click action for the extra control buttons.
-     * Increments the surrounding fields' clocks and updates the board display.
+     * Clicks the button on the board, which turns the surrounding fields' clocks and records the click for undoing;
+     * the clock buttons are updated as the clocks change.
      * Checks if all clocks are set to 12 and shows a completion message if so.
      *
      * @param index The index of the clicked extra button.
      */
     private void handleExtraButtonClick(int index) {
-        board.incrementSurroundingClocks(index);
-        board.incrementClickCount();
-        updateButtonTexts();
+        board.click(index);
+        updateUndoRedoButtons();
         if (board.allClocksAreMaxed()) {
             showCompletionMessage();
         }
     }
 
     /**
-     * Updates the text displayed on each button to reflect the current state of the board.
+     * Updates the text of the button showing a clock that has changed.
+     *
+     * @param row The row index of the clock.
+     * @param col The column index of the clock.
+     * @param number The number the clock shows now.
      */
-    private void updateButtonTexts() {
-        for (int i = 0; i < board.getBoardSize(); ++i) {
-            for (int j = 0; j < board.getBoardSize(); ++j) {
-                buttons[i][j].setText(String.valueOf(board.get(i, j).getNumber()));
-            }
-        }
+    private void updateButtonText(int row, int col, int number) {
+        buttons[row][col].setText(String.valueOf(number));
     }
 
     /**
@@ -163,7 +253,7 @@ public class BoardGUI {
 
         if (choice == JOptionPane.YES_OPTION) {
             board.refreshGame();
-            updateButtonTexts();
+            updateUndoRedoButtons();
         } else {
             System.exit(0);
         }
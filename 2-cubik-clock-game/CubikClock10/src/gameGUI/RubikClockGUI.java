@@ -16,8 +16,17 @@ public class RubikClockGUI {
      * Sets up a 3x3 board and displays it in a JFrame.
      */
     public RubikClockGUI() {
-        // Create a new 3x3 game board instance
-        Board board = new Board(3);
+        this(3);
+    }
+
+    /**
+     * Constructs a RubikClockGUI instance with a board of the given size.
+     *
+     * @param boardSize The size of the board (e.g., 3 for a 3x3 board).
+     */
+    public RubikClockGUI(int boardSize) {
+        // Create a new game board instance
+        Board board = new Board(boardSize);
 
         // Create a BoardGUI to represent the board visually
         BoardGUI boardGUI = new BoardGUI(board);
@@ -1,61 +1,164 @@
 package gameLogic;
 
+import java.util.Arrays;
 import java.util.Random;
 
 /**
  * The Board class represents the game board for a Rubik's Clock puzzle.
- * It manages a grid of Field objects, each representing a clock with a number from 1 to 12.
+ * It manages an N x N grid of clocks, each showing a number from 1 to 12, and the (N - 1)^2 buttons between them.
+ * Button (r, c) sits between the rows r, r + 1 and the columns c, c + 1 and turns those four clocks.
+ * The clocks are packed four bits each into a long array, so large boards stay compact and cheap to copy.
  * The board handles initialization, incrementing clocks, and checking the completion status.
+ * It keeps count of the clocks set to 12, so checking for completion takes constant time, and tells its
+ * ClockChangeListener about every clock that changes.
+ * Snapshots share the packed words with the board until it changes them (copy-on-write). The board also remembers
+ * which words changed since its last snapshot, so restoring that snapshot, as resetting the game does,
+ * only touches those words.
+ * The clicks are recorded in a MoveJournal for undo and redo. The clocks are generated from a seed, so a game can be
+ * replayed exactly from its size, its seed and its journal. Every few clicks the board keeps a checkpoint of its
+ * clocks, so jumping to any point of the journal restores the nearest checkpoint and replays only the clicks after it.
  */
 public class Board {
-    private Field[][] fields;
+    private static final int MAX_NUMBER = 12;
+    private static final int CLOCKS_PER_WORD = 16;
+    private static final long CLOCK_MASK = 0xFL;
+    private static final int MIN_CHECKPOINT_INTERVAL = 64;
+    /**
+     * A checkpoint is kept every this many words of clocks times four clicks, so the checkpoints take about
+     * two bytes per click and copying their words costs a quarter of a word per click, however large the board is.
+     */
+    private static final int CHECKPOINT_CLICKS_PER_WORD = 4;
+
+    private long[] clocks;
+    private boolean clocksShared;
     private int boardSize;
     private int clickCount = 0;
-    private int[][] initialClockState;
+    private int maxedClocks;
+    private Snapshot initialSnapshot;
+    private Snapshot baseSnapshot;
+    private long[] dirtyWordBits;
+    private int[] dirtyWords;
+    private int dirtyWordCount;
+    private ClockChangeListener listener;
+    private long seed;
+    private MoveJournal journal;
+    private int checkpointInterval;
+    private Snapshot[] checkpoints;
+    private int checkpointCount;
 
     /**
-     * Constructs a Board of a specified size and initializes its state.
+     * Constructs a Board of a specified size and initializes its state from a random seed.
      *
      * @param boardSize The size of the board (e.g., 3 for a 3x3 board).
      */
     public Board(int boardSize) {
+        this(boardSize, new Random().nextLong());
+    }
+
+    /**
+     * Constructs a Board of a specified size and initializes its state from the given seed,
+     * so the same seed always gives the same clocks.
+     *
+     * @param boardSize The size of the board (e.g., 3 for a 3x3 board).
+     * @param seed The seed of the random clock values.
+     */
+    public Board(int boardSize, long seed) {
+        if (boardSize < 1) {
+            throw new IllegalArgumentException("Board size must be at least 1: " + boardSize);
+        }
         this.boardSize = boardSize;
-        fields = new Field[boardSize][boardSize];
-        initialClockState = new int[boardSize][boardSize];
+        int words = (boardSize * boardSize + CLOCKS_PER_WORD - 1) / CLOCKS_PER_WORD;
+        clocks = new long[words];
+        dirtyWordBits = new long[(words + 63) / 64];
+        dirtyWords = new int[words];
+        this.seed = seed;
+        this.journal = new MoveJournal();
+        this.checkpointInterval = Math.max(MIN_CHECKPOINT_INTERVAL, words * CHECKPOINT_CLICKS_PER_WORD);
+        this.checkpoints = new Snapshot[4];
         initializeBoard();
     }
 
     /**
-     * Initializes the board with random clock values and saves the initial state.
+     * Replays a game: constructs the board of the given size and seed and redoes the recorded clicks.
+     *
+     * @param boardSize The size of the board (e.g., 3 for a 3x3 board).
+     * @param seed The seed of the random clock values.
+     * @param moves The recorded clicks, as returned by {@link MoveJournal#toByteArray()}.
+     * @throws IllegalArgumentException If the clicks were not recorded on a board of this size and seed.
+     */
+    public Board(int boardSize, long seed, byte[] moves) {
+        this(boardSize, seed);
+        journal = MoveJournal.fromByteArray(moves);
+        try {
+            jumpTo(journal.size());
+        } catch (IllegalStateException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("The clicks do not belong to this board", e);
+        }
+    }
+
+    /**
+     * Constructs a copy of another board, sharing nothing with it.
+     *
+     * @param other The board to copy.
+     */
+    private Board(Board other) {
+        this.boardSize = other.boardSize;
+        this.clickCount = other.clickCount;
+        this.clocks = other.clocks.clone();
+        this.maxedClocks = other.maxedClocks;
+        this.initialSnapshot = other.initialSnapshot;
+        this.baseSnapshot = other.baseSnapshot;
+        this.dirtyWordBits = other.dirtyWordBits.clone();
+        this.dirtyWords = other.dirtyWords.clone();
+        this.dirtyWordCount = other.dirtyWordCount;
+        this.seed = other.seed;
+        this.journal = other.journal.copy();
+        this.checkpointInterval = other.checkpointInterval;
+        this.checkpoints = other.checkpoints.clone();
+        this.checkpointCount = other.checkpointCount;
+    }
+
+    /**
+     * Returns an independent copy of this board, for example to explore moves in a search.
+     * Copying only duplicates the packed clock words; the copy has no listener.
+     *
+     * @return The copy.
+     */
+    public Board copy() {
+        return new Board(this);
+    }
+
+    /**
+     * Initializes the board with random clock values and saves the initial state, which is also the first checkpoint.
      */
     private void initializeBoard() {
-        Random random = new Random();
+        Random random = new Random(seed);
         initializeFields(random);
-        initializeInitialClockState();
+        initialSnapshot = snapshot();
+        checkpoints[0] = initialSnapshot;
+        checkpointCount = 1;
     }
 
     /**
-     * Initializes each Field on the board with a random clock value between 1 and 12.
+     * Initializes each clock on the board with a random value between 1 and 12.
      *
      * @param random Random object used to generate random clock values.
      */
     private void initializeFields(Random random) {
         for (int i = 0; i < boardSize; i++) {
             for (int j = 0; j < boardSize; j++) {
-                fields[i][j] = new Field(random.nextInt(12) + 1);
+                setNumber(i, j, random.nextInt(MAX_NUMBER) + 1);
             }
         }
     }
 
     /**
-     * Saves the initial clock state of each Field to allow game reset.
+     * Sets the listener that is told about every clock that changes from now on.
+     *
+     * @param listener The listener, or null to stop notifying.
      */
-    private void initializeInitialClockState() {
-        for (int i = 0; i < boardSize; i++) {
-            for (int j = 0; j < boardSize; j++) {
-                initialClockState[i][j] = fields[i][j].getNumber();
-            }
-        }
+    public void setClockChangeListener(ClockChangeListener listener) {
+        this.listener = listener;
     }
 
     /**
@@ -68,111 +171,387 @@ public class Board {
     }
 
     /**
-     * Retrieves the Field at a specific location on the board.
+     * Returns the number of extra buttons, which is (N - 1)^2 for an N x N board.
      *
-     * @param x The row index of the field.
-     * @param y The column index of the field.
-     * @return The Field object at the specified position.
+     * @return The number of extra buttons.
      */
-    public Field get(int x, int y) {
-        return fields[x][y];
+    public int getButtonCount() {
+        return (boardSize - 1) * (boardSize - 1);
     }
 
     /**
-     * Increments the clocks in positions surrounding the given extra button's index.
+     * Retrieves the number shown by the clock at a specific location on the board.
      *
-     * @param extraButtonIndex The index of the extra button clicked.
+     * @param x The row index of the clock.
+     * @param y The column index of the clock.
+     * @return The number of the clock, from 1 to 12.
+     */
+    public int getNumber(int x, int y) {
+        int index = x * boardSize + y;
+        return (int) ((clocks[index / CLOCKS_PER_WORD] >>> shift(index)) & CLOCK_MASK);
+    }
+
+    /**
+     * Stores the number of the clock at a specific location on the board, keeps the count of maxed clocks
+     * up to date and notifies the listener.
+     *
+     * @param x The row index of the clock.
+     * @param y The column index of the clock.
+     * @param number The new number of the clock.
+     */
+    private void setNumber(int x, int y, int number) {
+        int index = x * boardSize + y;
+        int word = index / CLOCKS_PER_WORD;
+        int shift = shift(index);
+        int previous = (int) ((clocks[word] >>> shift) & CLOCK_MASK);
+        if (previous == number) {
+            return;
+        }
+        if (clocksShared) {
+            clocks = clocks.clone();
+            clocksShared = false;
+        }
+        clocks[word] = (clocks[word] & ~(CLOCK_MASK << shift)) | ((long) number << shift);
+        markDirty(word);
+        if (previous == MAX_NUMBER) {
+            maxedClocks--;
+        } else if (number == MAX_NUMBER) {
+            maxedClocks++;
+        }
+        if (listener != null) {
+            listener.clockChanged(x, y, number);
+        }
+    }
+
+    /**
+     * Remembers that a word has changed since the last snapshot.
+     */
+    private void markDirty(int word) {
+        long bit = 1L << word;
+        if ((dirtyWordBits[word >>> 6] & bit) == 0) {
+            dirtyWordBits[word >>> 6] |= bit;
+            dirtyWords[dirtyWordCount++] = word;
+        }
+    }
+
+    /**
+     * Forgets the changed words, clearing only their own bits.
+     */
+    private void clearDirtyWords() {
+        for (int i = 0; i < dirtyWordCount; i++) {
+            dirtyWordBits[dirtyWords[i] >>> 6] = 0;
+        }
+        dirtyWordCount = 0;
+    }
+
+    /**
+     * Returns the bit offset of a clock inside its word.
      */
-    public void incrementSurroundingClocks(int extraButtonIndex) {
-        int[][] positionsToIncrement = getSurroundingPositions(extraButtonIndex);
-        incrementClockPositions(positionsToIncrement);
+    private static int shift(int index) {
+        return (index % CLOCKS_PER_WORD) * 4;
     }
 
     /**
-     * Returns the positions of the fields surrounding the given extra button index.
+     * Increments the clocks in positions surrounding the given extra button's index.
+     * Buttons are numbered row by row, so button i sits at row i / (N - 1) and column i % (N - 1).
      *
      * @param extraButtonIndex The index of the extra button clicked.
-     * @return An array of integer pairs representing the surrounding positions.
+     * @return The mask of the clocks that moved, as described at {@link MoveJournal#changedClocks(int)}.
      */
-    private int[][] getSurroundingPositions(int extraButtonIndex) {
-        int[][][] surroundingPositions = {
-                {{0, 0}, {0, 1}, {1, 0}, {1, 1}},
-                {{0, 1}, {0, 2}, {1, 1}, {1, 2}},
-                {{1, 0}, {1, 1}, {2, 0}, {2, 1}},
-                {{1, 1}, {1, 2}, {2, 1}, {2, 2}}
-        };
-        return surroundingPositions[extraButtonIndex];
+    private int incrementSurroundingClocks(int extraButtonIndex) {
+        checkButton(extraButtonIndex);
+        int row = extraButtonIndex / (boardSize - 1);
+        int col = extraButtonIndex % (boardSize - 1);
+        int changedClocks = 0;
+        if (incrementClockAtPosition(row, col)) {
+            changedClocks |= 1;
+        }
+        if (incrementClockAtPosition(row, col + 1)) {
+            changedClocks |= 2;
+        }
+        if (incrementClockAtPosition(row + 1, col)) {
+            changedClocks |= 4;
+        }
+        if (incrementClockAtPosition(row + 1, col + 1)) {
+            changedClocks |= 8;
+        }
+        return changedClocks;
     }
 
     /**
-     * Increments the clock values at specified positions on the board.
+     * Decrements the clocks of a button that a click turned, which undoes the click.
      *
-     * @param positionsToIncrement An array of row and column indices to increment.
+     * @param extraButtonIndex The index of the extra button.
+     * @param changedClocks The mask of the clocks the click turned.
      */
-    private void incrementClockPositions(int[][] positionsToIncrement) {
-        for (int[] pos : positionsToIncrement) {
-            int row = pos[0];
-            int col = pos[1];
-            incrementClockAtPosition(row, col);
+    private void decrementSurroundingClocks(int extraButtonIndex, int changedClocks) {
+        int row = extraButtonIndex / (boardSize - 1);
+        int col = extraButtonIndex % (boardSize - 1);
+        if ((changedClocks & 1) != 0) {
+            setNumber(row, col, getNumber(row, col) - 1);
+        }
+        if ((changedClocks & 2) != 0) {
+            setNumber(row, col + 1, getNumber(row, col + 1) - 1);
+        }
+        if ((changedClocks & 4) != 0) {
+            setNumber(row + 1, col, getNumber(row + 1, col) - 1);
+        }
+        if ((changedClocks & 8) != 0) {
+            setNumber(row + 1, col + 1, getNumber(row + 1, col + 1) - 1);
+        }
+    }
+
+    private void checkButton(int extraButtonIndex) {
+        if (extraButtonIndex < 0 || extraButtonIndex >= getButtonCount()) {
+            throw new IndexOutOfBoundsException("There is no button " + extraButtonIndex
+                    + " on a " + boardSize + "x" + boardSize + " board");
         }
     }
 
     /**
-     * Increments the clock value at a specified position, wrapping back to 1 if it exceeds 12.
+     * Increments the clock value at a specified position, stopping at 12.
      *
      * @param row The row index of the clock.
      * @param col The column index of the clock.
+     * @return True if the clock moved; false if it was already at 12.
      */
-    private void incrementClockAtPosition(int row, int col) {
+    private boolean incrementClockAtPosition(int row, int col) {
         if (row < boardSize && col < boardSize) {
-            Field field = fields[row][col];
-            int currentNumber = field.getNumber();
-            if (currentNumber < 12) {
-                field.setNumber(currentNumber + 1);
+            int currentNumber = getNumber(row, col);
+            if (currentNumber < MAX_NUMBER) {
+                setNumber(row, col, currentNumber + 1);
+                return true;
             }
         }
+        return false;
     }
 
     /**
-     * Checks if all clocks on the board are set to 12.
+     * Clicks an extra button: turns its clocks, counts the click and records it in the journal,
+     * dropping any clicks that could have been redone.
      *
-     * @return True if all clocks are set to 12; otherwise, false.
+     * @param extraButtonIndex The index of the extra button clicked.
      */
-    public boolean allClocksAreMaxed() {
-        for (int i = 0; i < boardSize; i++) {
-            for (int j = 0; j < boardSize; j++) {
-                if (fields[i][j].getNumber() < 12) {
-                    return false;
-                }
+    public void click(int extraButtonIndex) {
+        int changedClocks = incrementSurroundingClocks(extraButtonIndex);
+        // The checkpoints after this ply belong to the clicks the new one drops
+        checkpointCount = Math.min(checkpointCount, journal.getPly() / checkpointInterval + 1);
+        journal.record(extraButtonIndex, changedClocks);
+        clickCount++;
+        addCheckpoint();
+    }
+
+    /**
+     * Keeps a checkpoint of the clocks if the journal has just reached the ply of the next one.
+     * The checkpoint shares the packed words with the board, like a snapshot.
+     */
+    private void addCheckpoint() {
+        int ply = journal.getPly();
+        if (ply % checkpointInterval == 0 && ply / checkpointInterval == checkpointCount) {
+            if (checkpointCount == checkpoints.length) {
+                checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
             }
+            checkpoints[checkpointCount++] = new Snapshot(clocks, maxedClocks, clickCount, journal, null);
+            clocksShared = true;
         }
+    }
+
+    /**
+     * Undoes the last click in constant time.
+     *
+     * @return True if a click was undone; false if there was none.
+     */
+    public boolean undo() {
+        if (!journal.canUndo()) {
+            return false;
+        }
+        int record = journal.undo();
+        decrementSurroundingClocks(MoveJournal.button(record), MoveJournal.changedClocks(record));
+        clickCount--;
+        return true;
+    }
+
+    /**
+     * Redoes the last undone click in constant time.
+     *
+     * @return True if a click was redone; false if there was none.
+     * @throws IllegalStateException If the click turns other clocks than when it was recorded.
+     */
+    public boolean redo() {
+        if (!journal.canRedo()) {
+            return false;
+        }
+        int record = journal.redo();
+        int button = MoveJournal.button(record);
+        checkButton(button);
+        if (incrementSurroundingClocks(button) != MoveJournal.changedClocks(record)) {
+            throw new IllegalStateException("The recorded click on button " + button + " does not match the board");
+        }
+        clickCount++;
+        addCheckpoint();
         return true;
     }
 
+    /**
+     * Undoes or redoes clicks until the given number of recorded clicks is made.
+     * If that is closer to the checkpoint at or before the ply than to the current ply, counting the words
+     * restoring the checkpoint compares, the checkpoint is restored first, so a jump replays fewer clicks
+     * than there are between two checkpoints.
+     *
+     * @param ply The number of clicks, from 0 to the number of recorded clicks.
+     */
+    public void jumpTo(int ply) {
+        if (ply < 0 || ply > journal.size()) {
+            throw new IndexOutOfBoundsException("There is no ply " + ply + " in a journal of " + journal.size() + " clicks");
+        }
+        int checkpoint = Math.min(ply / checkpointInterval, checkpointCount - 1);
+        int clicksFromCheckpoint = ply - checkpoint * checkpointInterval;
+        if (Math.abs(journal.getPly() - ply) > clicksFromCheckpoint + clocks.length) {
+            Snapshot snapshot = checkpoints[checkpoint];
+            restoreClocks(snapshot);
+            journal.seek(snapshot.journalPly, snapshot.journalPosition);
+        }
+        while (journal.getPly() > ply) {
+            undo();
+        }
+        while (journal.getPly() < ply) {
+            redo();
+        }
+    }
+
+    public boolean canUndo() {
+        return journal.canUndo();
+    }
+
+    public boolean canRedo() {
+        return journal.canRedo();
+    }
+
+    /**
+     * Returns the journal of the clicks, for saving or replaying the game.
+     *
+     * @return The journal; it is changed only through the board.
+     */
+    public MoveJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns the seed the clocks were generated from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks if all clocks on the board are set to 12, using the running count of maxed clocks.
+     *
+     * @return True if all clocks are set to 12; otherwise, false.
+     */
+    public boolean allClocksAreMaxed() {
+        return maxedClocks == boardSize * boardSize;
+    }
+
+    /**
+     * Returns the number of clocks set to 12.
+     *
+     * @return The number of maxed clocks.
+     */
+    public int getMaxedClockCount() {
+        return maxedClocks;
+    }
+
     /**
      * Resets the game to its initial clock values and resets the click count.
+     * Unless another snapshot was taken or restored since, only the words changed during the game are restored.
+     * The journal goes back to its start, so the clicks can still be redone.
      */
     public void refreshGame() {
-        resetClockValues();
-        clickCount = 0;
+        restoreClocks(initialSnapshot);
+        journal.rewind();
     }
 
     /**
-     * Resets all clock values to their initial state.
+     * Takes a snapshot of the clocks, the click count and the point of the journal. The snapshot shares the packed
+     * words with the board, which copies them the next time a clock changes, and the recorded clicks with the journal.
+     *
+     * @return The snapshot.
      */
-    private void resetClockValues() {
-        for (int i = 0; i < boardSize; i++) {
-            for (int j = 0; j < boardSize; j++) {
-                fields[i][j].setNumber(initialClockState[i][j]);
+    public Snapshot snapshot() {
+        Snapshot snapshot = new Snapshot(clocks, maxedClocks, clickCount, journal, journal.shareBytes());
+        clocksShared = true;
+        baseSnapshot = snapshot;
+        clearDirtyWords();
+        return snapshot;
+    }
+
+    /**
+     * Restores the clocks, the click count and the journal of a snapshot, notifying the listener about every clock
+     * that changes.
+     * If no click has been dropped from the journal since the snapshot was taken, the journal only moves back or
+     * forward to the snapshot, so the clicks after it can still be redone. Otherwise the journal is replaced by the
+     * clicks made up to the snapshot, without anything to redo.
+     *
+     * @param snapshot A snapshot of this board or of a copy of it.
+     */
+    public void restore(Snapshot snapshot) {
+        if (snapshot.clocks.length != clocks.length) {
+            throw new IllegalArgumentException("The snapshot belongs to a board of another size");
+        }
+        restoreClocks(snapshot);
+        if (snapshot.journal == journal && snapshot.journalTruncations == journal.getTruncations()) {
+            journal.seek(snapshot.journalPly, snapshot.journalPosition);
+        } else {
+            journal = MoveJournal.ofPrefix(snapshot.journalBytes, snapshot.journalPosition, snapshot.journalPly);
+            checkpointCount = 1;
+        }
+    }
+
+    /**
+     * Restores the clocks and the click count of a snapshot or a checkpoint, notifying the listener about every clock
+     * that changes.
+     * Restoring the last snapshot taken or restored only restores the words changed since, in place;
+     * any other snapshot is compared word by word and then shared with the board.
+     */
+    private void restoreClocks(Snapshot snapshot) {
+        maxedClocks = snapshot.maxedClocks;
+        clickCount = snapshot.clickCount;
+        if (snapshot == baseSnapshot) {
+            if (clocksShared && dirtyWordCount > 0) {
+                // A checkpoint taken since shares the changed words
+                clocks = clocks.clone();
+                clocksShared = false;
+            }
+            // The words changed since are private to the board, as the first change copied the shared ones
+            for (int i = 0; i < dirtyWordCount; i++) {
+                int word = dirtyWords[i];
+                long changed = clocks[word] ^ snapshot.clocks[word];
+                clocks[word] = snapshot.clocks[word];
+                notifyChanges(word, changed);
+            }
+        } else {
+            long[] previous = clocks;
+            clocks = snapshot.clocks;
+            clocksShared = true;
+            baseSnapshot = snapshot;
+            for (int word = 0; word < clocks.length; word++) {
+                notifyChanges(word, previous[word] ^ clocks[word]);
             }
         }
+        clearDirtyWords();
     }
 
     /**
-     * Increments the click count by one.
+     * Notifies the listener about the clocks of a word whose bits are set in the mask of changed bits.
      */
-    public void incrementClickCount() {
-        clickCount++;
+    private void notifyChanges(int word, long changed) {
+        while (changed != 0 && listener != null) {
+            int index = word * CLOCKS_PER_WORD + Long.numberOfTrailingZeros(changed) / 4;
+            changed &= ~(CLOCK_MASK << shift(index));
+            listener.clockChanged(index / boardSize, index % boardSize, getNumber(index / boardSize, index % boardSize));
+        }
     }
 
     /**
@@ -183,4 +562,54 @@ public class Board {
     public int getClickCount() {
         return clickCount;
     }
+
+    /**
+     * Returns a copy of the packed clock words, 16 clocks of four bits per long in row-major order.
+     *
+     * @return The packed clocks.
+     */
+    public long[] getPackedClocks() {
+        return Arrays.copyOf(clocks, clocks.length);
+    }
+
+    /**
+     * The Snapshot class holds the clocks, the click count, the number of maxed clocks and the point of the journal
+     * of a board at one moment.
+     * It never changes; the board copies the words it shares with a snapshot before changing them,
+     * and the journal copies the recorded clicks before overwriting them.
+     */
+    public static final class Snapshot {
+        private final long[] clocks;
+        private final int maxedClocks;
+        private final int clickCount;
+        private final MoveJournal journal;
+        private final int journalPly;
+        private final int journalPosition;
+        private final int journalTruncations;
+        /**
+         * The recorded clicks up to the journal position, or null for a checkpoint, which is only restored
+         * while its journal is unchanged.
+         */
+        private final byte[] journalBytes;
+
+        private Snapshot(long[] clocks, int maxedClocks, int clickCount, MoveJournal journal, byte[] journalBytes) {
+            this.clocks = clocks;
+            this.maxedClocks = maxedClocks;
+            this.clickCount = clickCount;
+            this.journal = journal;
+            this.journalPly = journal.getPly();
+            this.journalPosition = journal.getPosition();
+            this.journalTruncations = journal.getTruncations();
+            this.journalBytes = journalBytes;
+        }
+
+        /**
+         * Returns the number of clicks made when the snapshot was taken.
+         *
+         * @return The number of clicks.
+         */
+        public int getClickCount() {
+            return clickCount;
+        }
+    }
 }
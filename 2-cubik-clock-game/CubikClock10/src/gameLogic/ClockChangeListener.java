@@ -0,0 +1,17 @@
+package gameLogic;
+
+/**
+ * The ClockChangeListener interface is notified by a Board whenever one of its clocks shows a different number,
+ * so a view can update only the clocks that changed.
+ */
+public interface ClockChangeListener {
+
+    /**
+     * Called after a clock has changed.
+     *
+     * @param row The row index of the clock.
+     * @param col The column index of the clock.
+     * @param number The number the clock shows now, from 1 to 12.
+     */
+    void clockChanged(int row, int col, int number);
+}
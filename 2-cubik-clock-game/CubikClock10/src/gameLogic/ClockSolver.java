@@ -0,0 +1,207 @@
+package gameLogic;
+
+/**
+ * The ClockSolver class answers "how many clicks are needed to set every clock to 12" for a 3x3 board,
+ * together with an optimal sequence of button clicks, in constant time.
+ *
+ * A board state is packed into a single long in base 12, one digit (clock value - 1) per clock in row-major order.
+ * Because clocks only count up and stop at 12, the order of the clicks does not matter. Every corner clock is
+ * reached by only one button, so that button has to be clicked at least as often as the corner is below 12.
+ * After those forced clicks only the four edge clocks and the center remain, which gives 12^5 residual states.
+ * Their distances are computed once with a breadth-first sweep and stored one byte per state.
+ */
+public final class ClockSolver {
+    /**
+     * The size of the boards this solver supports.
+     */
+    public static final int BOARD_SIZE = 3;
+
+    private static final int MAX_VALUE = 12;
+    private static final int BUTTONS = 4;
+    private static final int RESIDUAL_CLOCKS = 5;
+    private static final int RESIDUAL_STATES = 12 * 12 * 12 * 12 * 12;
+
+    // Residual digits: top edge, left edge, right edge, bottom edge, center.
+    private static final int[] RESIDUAL_PLACE = {1, 12, 144, 1728, 20736};
+    private static final int[][] RESIDUAL_CLOCKS_OF_BUTTON = {
+            {0, 1, 4},
+            {0, 2, 4},
+            {1, 3, 4},
+            {2, 3, 4}
+    };
+
+    private static final byte[] DISTANCES = new byte[RESIDUAL_STATES];
+    private static final byte[] BEST_BUTTONS = new byte[RESIDUAL_STATES];
+
+    static {
+        buildTables();
+    }
+
+    private ClockSolver() {
+    }
+
+    /**
+     * Fills the distance table. A useful click lowers at least one residual digit, so it always leads to a
+     * smaller packed index, and visiting the states in increasing order settles them layer by layer like a
+     * breadth-first search from the solved state.
+     */
+    private static void buildTables() {
+        int[] digits = new int[RESIDUAL_CLOCKS];
+        for (int state = 1; state < RESIDUAL_STATES; state++) {
+            int rest = state;
+            for (int i = 0; i < RESIDUAL_CLOCKS; i++) {
+                digits[i] = rest % 12;
+                rest /= 12;
+            }
+
+            int best = Integer.MAX_VALUE;
+            int bestButton = -1;
+            for (int button = 0; button < BUTTONS; button++) {
+                int next = state;
+                for (int clock : RESIDUAL_CLOCKS_OF_BUTTON[button]) {
+                    if (digits[clock] > 0) {
+                        next -= RESIDUAL_PLACE[clock];
+                    }
+                }
+                if (next != state && DISTANCES[next] < best) {
+                    best = DISTANCES[next];
+                    bestButton = button;
+                }
+            }
+            DISTANCES[state] = (byte) (best + 1);
+            BEST_BUTTONS[state] = (byte) bestButton;
+        }
+    }
+
+    /**
+     * Packs the clocks of a 3x3 board into a base-12 number.
+     *
+     * @param board The board to encode.
+     * @return The packed state.
+     */
+    public static long encode(Board board) {
+        if (board.getBoardSize() != BOARD_SIZE) {
+            throw new IllegalArgumentException("The solver only supports " + BOARD_SIZE + "x" + BOARD_SIZE + " boards");
+        }
+        long state = 0;
+        for (int row = BOARD_SIZE - 1; row >= 0; row--) {
+            for (int col = BOARD_SIZE - 1; col >= 0; col--) {
+                state = state * 12 + (board.getNumber(row, col) - 1);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the minimum number of clicks needed to set every clock of the board to 12.
+     *
+     * @param board The board to solve.
+     * @return The minimum number of clicks.
+     */
+    public static int minimumClicks(Board board) {
+        return minimumClicks(encode(board));
+    }
+
+    /**
+     * Returns the minimum number of clicks needed to set every clock of a packed state to 12.
+     *
+     * @param state The packed state, as returned by {@link #encode(Board)}.
+     * @return The minimum number of clicks.
+     */
+    public static int minimumClicks(long state) {
+        int[] forcedClicks = forcedClicks(state);
+        int total = DISTANCES[residualState(state, forcedClicks)];
+        for (int clicks : forcedClicks) {
+            total += clicks;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the extra button indexes to click, in order, to set every clock of the board to 12
+     * with the minimum number of clicks.
+     *
+     * @param board The board to solve.
+     * @return The button indexes, empty if the board is already solved.
+     */
+    public static int[] optimalClicks(Board board) {
+        return optimalClicks(encode(board));
+    }
+
+    /**
+     * Returns the extra button indexes to click, in order, to set every clock of a packed state to 12
+     * with the minimum number of clicks.
+     *
+     * @param state The packed state, as returned by {@link #encode(Board)}.
+     * @return The button indexes, empty if the state is already solved.
+     */
+    public static int[] optimalClicks(long state) {
+        int[] forcedClicks = forcedClicks(state);
+        int residual = residualState(state, forcedClicks);
+        int[] clicks = new int[minimumClicks(state)];
+        int next = 0;
+
+        while (residual != 0) {
+            int button = BEST_BUTTONS[residual];
+            clicks[next++] = button;
+            for (int clock : RESIDUAL_CLOCKS_OF_BUTTON[button]) {
+                if ((residual / RESIDUAL_PLACE[clock]) % 12 > 0) {
+                    residual -= RESIDUAL_PLACE[clock];
+                }
+            }
+        }
+        for (int button = 0; button < BUTTONS; button++) {
+            for (int i = 0; i < forcedClicks[button]; i++) {
+                clicks[next++] = button;
+            }
+        }
+        return clicks;
+    }
+
+    /**
+     * Returns the next button of an optimal solution, which is what a hint shows.
+     *
+     * @param board The board to solve.
+     * @return The button index, or -1 if the board is already solved.
+     */
+    public static int nextClick(Board board) {
+        int[] clicks = optimalClicks(board);
+        return clicks.length == 0 ? -1 : clicks[0];
+    }
+
+    /**
+     * Returns how far the clock at a position of a packed state is below 12.
+     */
+    private static int deficit(long state, int row, int col) {
+        long digit = state;
+        for (int i = 0; i < row * BOARD_SIZE + col; i++) {
+            digit /= 12;
+        }
+        return MAX_VALUE - 1 - (int) (digit % 12);
+    }
+
+    /**
+     * Returns how often each button must be clicked to set its corner clock to 12.
+     */
+    private static int[] forcedClicks(long state) {
+        return new int[]{
+                deficit(state, 0, 0),
+                deficit(state, 0, 2),
+                deficit(state, 2, 0),
+                deficit(state, 2, 2)
+        };
+    }
+
+    /**
+     * Packs how far the edge and center clocks are still below 12 after the forced clicks.
+     */
+    private static int residualState(long state, int[] forced) {
+        int top = Math.max(0, deficit(state, 0, 1) - forced[0] - forced[1]);
+        int left = Math.max(0, deficit(state, 1, 0) - forced[0] - forced[2]);
+        int right = Math.max(0, deficit(state, 1, 2) - forced[1] - forced[3]);
+        int bottom = Math.max(0, deficit(state, 2, 1) - forced[2] - forced[3]);
+        int center = Math.max(0, deficit(state, 1, 1) - forced[0] - forced[1] - forced[2] - forced[3]);
+        return top * RESIDUAL_PLACE[0] + left * RESIDUAL_PLACE[1] + right * RESIDUAL_PLACE[2]
+                + bottom * RESIDUAL_PLACE[3] + center * RESIDUAL_PLACE[4];
+    }
+}
@@ -0,0 +1,282 @@
+package gameLogic;
+
+import java.util.Arrays;
+
+/**
+ * The MoveJournal class records the clicks of a game so they can be undone, redone and replayed.
+ * Every click is stored as one record: the button index and a 4-bit mask of the clocks it actually turned,
+ * since clocks at 12 do not move. A record is packed as {@code (button << 4) | mask} into a variable number of
+ * bytes, seven bits per byte with the high bit set on all but the last byte, so a click on a 3x3 board takes one
+ * byte and a click on a 100x100 board three.
+ * Because only the last byte of a record has its high bit clear, the journal can step backwards as well as forwards,
+ * so undo and redo take constant time. A new click after an undo drops the clicks that could have been redone.
+ * Board snapshots share the recorded bytes with the journal, which copies them before it overwrites any of them.
+ */
+public class MoveJournal {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_RECORD_BYTES = 5;
+
+    private byte[] bytes;
+    private int length;
+    private int position;
+    private int ply;
+    private int size;
+    private boolean bytesShared;
+    private int truncations;
+
+    /**
+     * Constructs an empty journal.
+     */
+    public MoveJournal() {
+        bytes = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructs a journal holding the given records, positioned before the first one so they can be redone.
+     *
+     * @param records The records, as returned by {@link #toByteArray()}.
+     * @return The journal.
+     * @throws IllegalArgumentException If the last record is incomplete.
+     */
+    public static MoveJournal fromByteArray(byte[] records) {
+        if (records.length > 0 && (records[records.length - 1] & 0x80) != 0) {
+            throw new IllegalArgumentException("The last record of the journal is incomplete");
+        }
+        MoveJournal journal = new MoveJournal();
+        journal.bytes = Arrays.copyOf(records, Math.max(records.length, INITIAL_CAPACITY));
+        journal.length = records.length;
+        for (byte b : records) {
+            if ((b & 0x80) == 0) {
+                journal.size++;
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Returns an independent copy of this journal, at the same ply.
+     *
+     * @return The copy.
+     */
+    MoveJournal copy() {
+        MoveJournal copy = new MoveJournal();
+        copy.bytes = bytes.clone();
+        copy.length = length;
+        copy.position = position;
+        copy.ply = ply;
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Constructs a journal holding the first clicks of a shared byte array, positioned after the last of them.
+     *
+     * @param bytes The bytes returned by {@link #shareBytes()}.
+     * @param length The number of bytes of the clicks.
+     * @param ply The number of clicks.
+     * @return The journal.
+     */
+    static MoveJournal ofPrefix(byte[] bytes, int length, int ply) {
+        MoveJournal journal = new MoveJournal();
+        journal.bytes = Arrays.copyOf(bytes, Math.max(length, INITIAL_CAPACITY));
+        journal.length = length;
+        journal.position = length;
+        journal.ply = ply;
+        journal.size = ply;
+        return journal;
+    }
+
+    /**
+     * Appends a click at the current ply, dropping the clicks after it.
+     *
+     * @param button The index of the clicked button.
+     * @param changedClocks The mask of the clocks the click turned.
+     */
+    void record(int button, int changedClocks) {
+        int record = (button << 4) | changedClocks;
+        if (position < length) {
+            truncations++;
+            if (bytesShared) {
+                bytes = bytes.clone();
+                bytesShared = false;
+            }
+        }
+        length = position;
+        if (length + MAX_RECORD_BYTES > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + MAX_RECORD_BYTES));
+            bytesShared = false;
+        }
+        while ((record & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((record & 0x7F) | 0x80);
+            record >>>= 7;
+        }
+        bytes[length++] = (byte) record;
+        position = length;
+        ply++;
+        size = ply;
+    }
+
+    /**
+     * Steps back over the last click.
+     *
+     * @return The record of the click to undo.
+     * @throws IllegalStateException If there is no click to undo.
+     */
+    int undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no click to undo");
+        }
+        int start = position - 1;
+        while (start > 0 && (bytes[start - 1] & 0x80) != 0) {
+            start--;
+        }
+        position = start;
+        ply--;
+        return decode(start);
+    }
+
+    /**
+     * Steps forward over the next click.
+     *
+     * @return The record of the click to redo.
+     * @throws IllegalStateException If there is no click to redo.
+     */
+    int redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no click to redo");
+        }
+        int record = decode(position);
+        while ((bytes[position] & 0x80) != 0) {
+            position++;
+        }
+        position++;
+        ply++;
+        return record;
+    }
+
+    /**
+     * Goes back to the start of the game, keeping every click for redoing.
+     */
+    void rewind() {
+        position = 0;
+        ply = 0;
+    }
+
+    /**
+     * Moves to a point of the journal returned earlier by {@link #getPly()} and {@link #getPosition()},
+     * keeping every click for redoing.
+     *
+     * @param ply The number of clicks made at that point.
+     * @param position The byte offset of that point.
+     */
+    void seek(int ply, int position) {
+        this.ply = ply;
+        this.position = position;
+    }
+
+    /**
+     * Returns the byte offset of the current ply.
+     *
+     * @return The offset of the next click to redo or record.
+     */
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns how often recording a click has dropped clicks that could have been redone.
+     * A point of the journal stays valid for {@link #seek(int, int)} as long as this number does not change.
+     *
+     * @return The number of dropped branches.
+     */
+    int getTruncations() {
+        return truncations;
+    }
+
+    /**
+     * Returns the recorded bytes without copying them; the journal copies them before it overwrites any of them.
+     *
+     * @return The bytes, valid up to the current position.
+     */
+    byte[] shareBytes() {
+        bytesShared = true;
+        return bytes;
+    }
+
+    private int decode(int offset) {
+        int record = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[offset++];
+            record |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return record;
+    }
+
+    /**
+     * Returns the button index of a record.
+     *
+     * @param record A record returned by the journal.
+     * @return The index of the clicked button.
+     */
+    public static int button(int record) {
+        return record >>> 4;
+    }
+
+    /**
+     * Returns the mask of the clocks a click turned: bit 0 for the top left clock of the button, bit 1 for the top
+     * right one, bit 2 for the bottom left one and bit 3 for the bottom right one.
+     *
+     * @param record A record returned by the journal.
+     * @return The mask of the turned clocks.
+     */
+    public static int changedClocks(int record) {
+        return record & 0xF;
+    }
+
+    /**
+     * Returns the number of clicks made up to the current point of the game.
+     *
+     * @return The current ply.
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    /**
+     * Returns the number of recorded clicks, including the ones that can be redone.
+     *
+     * @return The number of clicks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes the recorded clicks take.
+     *
+     * @return The number of bytes.
+     */
+    public int byteSize() {
+        return length;
+    }
+
+    public boolean canUndo() {
+        return ply > 0;
+    }
+
+    public boolean canRedo() {
+        return ply < size;
+    }
+
+    /**
+     * Returns the recorded clicks, including the ones that can be redone, for saving or replaying a game.
+     *
+     * @return A copy of the records.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+}
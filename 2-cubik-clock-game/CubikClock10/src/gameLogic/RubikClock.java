@@ -7,14 +7,38 @@ import gameGUI.RubikClockGUI;
  * It creates an instance of the RubikClockGUI to display the user interface.
  */
 public class RubikClock {
+    private static final int DEFAULT_BOARD_SIZE = 3;
+    private static final int MIN_BOARD_SIZE = 2;
+    private static final String USAGE = "Usage: RubikClock [board size, at least " + MIN_BOARD_SIZE + "]";
 
     /**
      * The main method to launch the Rubik's Clock game.
      * Initializes the GUI by creating an instance of RubikClockGUI.
      *
-     * @param args
+     * Prints the usage instead if the board size is not a number or too small.
+     *
+     * @param args Optionally the board size, 3 if omitted.
      */
     public static void main(String[] args) {
-        RubikClockGUI gui = new RubikClockGUI();
+        int boardSize = args.length > 0 ? parseBoardSize(args[0]) : DEFAULT_BOARD_SIZE;
+        if (boardSize < MIN_BOARD_SIZE) {
+            System.err.println(USAGE);
+            return;
+        }
+        RubikClockGUI gui = new RubikClockGUI(boardSize);
+    }
+
+    /**
+     * Parses the board size given on the command line.
+     *
+     * @param arg The argument.
+     * @return The board size, or -1 if the argument is not a number.
+     */
+    private static int parseBoardSize(String arg) {
+        try {
+            return Integer.parseInt(arg.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 }
@@ -1,135 +1,377 @@
 package gameTests;
 
-import mvc.GameLogic;
-import game.LevelGenerator;
-import database.DatabaseManager;
+import gameLogic.Board;
+import gameLogic.ClockSolver;
+import gameLogic.MoveJournal;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * This class provides white-box testing for the game logic in the {@code GameLogic} class.
+ * This class provides white-box testing for the game logic in the {@code Board} class.
  */
 class WhiteBox {
 
-    private GameLogic gameLogic;
-    private final int screenWidth = 600;
-    private final int screenHeight = 600;
-    private final int unitSize = 25;
-
     /**
-     * Sets up a new {@code GameLogic} instance before each test.
+     * Tests that boards of any size keep their clocks packed four bits each in row-major order,
+     * that a seed always gives the same clocks, and that a button turns exactly its four clocks, stopping at 12.
      */
-    @BeforeEach
-    void setUp() {
-        gameLogic = new GameLogic(screenWidth, screenHeight, unitSize);
+    @Test
+    void testPackedClocksOfAnyBoardSize() {
+        for (int size : new int[]{1, 2, 3, 4, 5, 17, 100}) {
+            Board board = new Board(size, size);
+            assertArrayEquals(board.getPackedClocks(), new Board(size, size).getPackedClocks());
+            assertEquals((size - 1) * (size - 1), board.getButtonCount());
+            assertEquals((size * size + 15) / 16, board.getPackedClocks().length);
+            assertClocksMatchPacked(board);
+
+            Random random = new Random(size);
+            for (int click = 0; click < 200 && board.getButtonCount() > 0; click++) {
+                int button = random.nextInt(board.getButtonCount());
+                int[][] before = numbers(board);
+                board.click(button);
+
+                int row = button / (size - 1);
+                int col = button % (size - 1);
+                for (int i = 0; i < size; i++) {
+                    for (int j = 0; j < size; j++) {
+                        boolean turned = (i == row || i == row + 1) && (j == col || j == col + 1);
+                        int expected = turned ? Math.min(12, before[i][j] + 1) : before[i][j];
+                        assertEquals(expected, board.getNumber(i, j), "Clock " + i + ", " + j + " after button " + button);
+                    }
+                }
+            }
+            assertClocksMatchPacked(board);
+            assertThrows(IndexOutOfBoundsException.class, () -> board.click(board.getButtonCount()));
+            assertThrows(IndexOutOfBoundsException.class, () -> board.click(-1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Board(0));
     }
 
     /**
-     * Tests the initialization of the game to ensure the snake starts with the correct
-     * number of body parts and the game is running.
+     * Tests that the count of maxed clocks always matches the clocks, and that the listener is told about
+     * exactly the clocks that change, with their new numbers.
      */
     @Test
-    void testGameInitialization() {
-        gameLogic.startGame();
+    void testMaxedClockCountAndChangeEvents() {
+        Board board = new Board(5, 42);
+        int[][] shown = numbers(board);
+        int[] events = new int[1];
+        board.setClockChangeListener((row, col, number) -> {
+            assertNotEquals(shown[row][col], number, "Clock " + row + ", " + col + " did not change");
+            shown[row][col] = number;
+            events[0]++;
+        });
+
+        Random random = new Random(42);
+        while (!board.allClocksAreMaxed()) {
+            int[][] before = numbers(board);
+            events[0] = 0;
+            board.click(random.nextInt(board.getButtonCount()));
+
+            int changed = 0;
+            int maxed = 0;
+            int[][] after = numbers(board);
+            for (int i = 0; i < 5; i++) {
+                assertArrayEquals(after[i], shown[i]);
+                for (int j = 0; j < 5; j++) {
+                    changed += before[i][j] != after[i][j] ? 1 : 0;
+                    maxed += after[i][j] == 12 ? 1 : 0;
+                }
+            }
+            assertEquals(changed, events[0]);
+            assertEquals(maxed, board.getMaxedClockCount());
+        }
+        assertEquals(25, board.getMaxedClockCount());
 
-        assertEquals(2, gameLogic.getBodyParts(), "Snake should start with 2 body parts.");
-        assertEquals('R', gameLogic.getDirection(), "Initial direction should be right.");
-        assertTrue(gameLogic.isRunning(), "Game should be running after startGame.");
+        board.setClockChangeListener(null);
+        board.refreshGame();
+        Board initial = new Board(5, 42);
+        assertArrayEquals(initial.getPackedClocks(), board.getPackedClocks());
+        assertEquals(initial.getMaxedClockCount(), board.getMaxedClockCount());
     }
 
     /**
-     * Tests that a new apple does not spawn on an obstacle.
+     * Tests that resetting a game and restoring snapshots give the same clocks as building the board again,
+     * that a snapshot does not change when the board goes on, and that the listener follows every restore.
      */
     @Test
-    void testAppleDoesNotSpawnOnObstacle() {
-        gameLogic.startGame();
+    void testSnapshotRestoreMatchesFullReset() {
+        for (int size : new int[]{3, 20}) {
+            Board board = new Board(size, 7);
+            Board fresh = new Board(size, 7);
+            int[][] shown = numbers(board);
+            board.setClockChangeListener((row, col, number) -> shown[row][col] = number);
+            Random random = new Random(size);
 
-        LevelGenerator levelGenerator = new LevelGenerator(screenWidth, screenHeight, unitSize);
-        levelGenerator.generateLevel();
-        gameLogic.newApple();
+            for (int game = 0; game < 20; game++) {
+                for (int click = random.nextInt(50); click > 0; click--) {
+                    board.click(random.nextInt(board.getButtonCount()));
+                }
+                Board.Snapshot snapshot = board.snapshot();
+                long[] clocksAtSnapshot = board.getPackedClocks();
+                int maxedAtSnapshot = board.getMaxedClockCount();
+                int clicksAtSnapshot = board.getClickCount();
 
-        List<Point> obstacles = levelGenerator.getObstacles();
-        Point apple = new Point(gameLogic.getAppleX() / unitSize, gameLogic.getAppleY() / unitSize);
+                for (int click = random.nextInt(50); click > 0; click--) {
+                    board.click(random.nextInt(board.getButtonCount()));
+                }
+                board.restore(snapshot);
+                assertArrayEquals(clocksAtSnapshot, board.getPackedClocks());
+                assertEquals(maxedAtSnapshot, board.getMaxedClockCount());
+                assertEquals(clicksAtSnapshot, board.getClickCount());
+                assertEquals(clicksAtSnapshot, snapshot.getClickCount());
 
-        assertFalse(obstacles.contains(apple), "Apple should not spawn on an obstacle.");
+                Board copy = board.copy();
+                copy.click(0);
+                board.click(0);
+                copy.restore(snapshot);
+                assertArrayEquals(clocksAtSnapshot, copy.getPackedClocks());
+
+                board.refreshGame();
+                assertArrayEquals(fresh.getPackedClocks(), board.getPackedClocks());
+                assertEquals(fresh.getMaxedClockCount(), board.getMaxedClockCount());
+                assertEquals(0, board.getClickCount());
+                assertArrayEquals(numbers(board), shown);
+            }
+        }
     }
 
     /**
-     * Tests the {@code checkApple} method to verify that the snake's body grows
-     * and the score increases when an apple is eaten.
+     * Tests the solver against a brute-force search on 3x3 boards, and that its clicks solve the board.
+     * Clicks commute, so the search tries every number of clicks from 0 to 11 on each of the four buttons.
      */
     @Test
-    void testAppleConsumptionIncreasesBodyAndScore() {
-        gameLogic.startGame();
+    void testSolverMatchesBruteForce() {
+        for (long seed = 0; seed < 100; seed++) {
+            Board board = new Board(ClockSolver.BOARD_SIZE, seed);
+            int minimum = ClockSolver.minimumClicks(board);
+            assertEquals(bruteForceMinimumClicks(board), minimum, "Board of seed " + seed);
+
+            int[] clicks = ClockSolver.optimalClicks(board);
+            assertEquals(minimum, clicks.length);
+            assertEquals(clicks.length == 0 ? -1 : clicks[0], ClockSolver.nextClick(board));
+            for (int button : clicks) {
+                board.click(button);
+            }
+            assertTrue(board.allClocksAreMaxed(), "Board of seed " + seed);
+            assertEquals(0, ClockSolver.minimumClicks(board));
+            assertEquals(-1, ClockSolver.nextClick(board));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ClockSolver.minimumClicks(new Board(4, 0)));
+    }
 
-        gameLogic.newApple();
-        int appleX = gameLogic.getAppleX();
-        int appleY = gameLogic.getAppleY();
+    /**
+     * Tests that restoring a snapshot moves the journal along with the clocks: the clicks after the snapshot can
+     * still be redone, and after the journal took another branch it holds the clicks up to the snapshot.
+     */
+    @Test
+    void testRestoreKeepsJournalInStep() {
+        Board board = new Board(3, 5);
+        long[] initial = board.getPackedClocks();
+        Board.Snapshot start = board.snapshot();
+        board.click(0);
+        long[] afterClick = board.getPackedClocks();
+        board.restore(start);
 
-        // Simulate eating the apple
-        gameLogic.getX()[0] = appleX;
-        gameLogic.getY()[0] = appleY;
+        assertEquals(0, board.getClickCount());
+        assertFalse(board.canUndo());
+        assertFalse(board.undo());
+        assertArrayEquals(initial, board.getPackedClocks());
+        assertTrue(board.redo());
+        assertArrayEquals(afterClick, board.getPackedClocks());
+        assertEquals(1, board.getClickCount());
 
-        boolean ateApple = gameLogic.checkApple();
+        board.click(1);
+        board.click(2);
+        Board.Snapshot branch = board.snapshot();
+        long[] atBranch = board.getPackedClocks();
+        board.undo();
+        board.undo();
+        board.click(3);
+        board.restore(branch);
 
-        assertTrue(ateApple, "checkApple should return true if the apple is eaten.");
-        assertEquals(3, gameLogic.getBodyParts(), "Body parts should increase by 1 after eating an apple.");
-        assertEquals(1, gameLogic.getApplesEaten(), "Apples eaten should increase by 1 after eating an apple.");
+        assertArrayEquals(atBranch, board.getPackedClocks());
+        assertEquals(3, board.getJournal().getPly());
+        assertFalse(board.canRedo());
+        for (int click = 3; click > 0; click--) {
+            assertTrue(board.undo());
+        }
+        assertArrayEquals(initial, board.getPackedClocks());
+        assertEquals(0, board.getClickCount());
+        board.jumpTo(3);
+        assertArrayEquals(atBranch, board.getPackedClocks());
     }
 
     /**
-     * Tests the {@code saveScoreToDatabase} method to verify it correctly interacts
-     * with the {@code DatabaseManager}.
+     * Tests that jumping to any ply of a long journal, which starts from the nearest checkpoint, gives the clocks
+     * the board had at that ply, also after clicks were dropped by a new branch.
      */
     @Test
-    void testScoreSavingToDatabase() {
-        DatabaseManager mockDatabaseManager = new DatabaseManager() {
-            private boolean saveCalled = false;
-
-            @Override
-            public void saveScore(String playerName, int score) {
-                saveCalled = true;
+    void testJumpToMatchesEveryPly() {
+        for (int size : new int[]{3, 40}) {
+            Board board = new Board(size, 3);
+            int[][] shown = numbers(board);
+            board.setClockChangeListener((row, col, number) -> shown[row][col] = number);
+            Random random = new Random(size);
+            List<long[]> clocksAtPly = new ArrayList<>();
+            clocksAtPly.add(board.getPackedClocks());
+            for (int click = 0; click < 1500; click++) {
+                if (click % 500 == 499) {
+                    int ply = board.getClickCount() / 2;
+                    board.jumpTo(ply);
+                    clocksAtPly.subList(ply + 1, clocksAtPly.size()).clear();
+                }
+                board.click(random.nextInt(board.getButtonCount()));
+                clocksAtPly.add(board.getPackedClocks());
             }
 
-            public boolean isSaveCalled() {
-                return saveCalled;
+            for (int jump = 0; jump < 300; jump++) {
+                int ply = random.nextInt(clocksAtPly.size());
+                board.jumpTo(ply);
+                assertArrayEquals(clocksAtPly.get(ply), board.getPackedClocks(), "Ply " + ply);
+                assertEquals(ply, board.getClickCount());
+                int[][] numbers = numbers(board);
+                int maxed = 0;
+                for (int i = 0; i < size; i++) {
+                    assertArrayEquals(numbers[i], shown[i]);
+                    for (int j = 0; j < size; j++) {
+                        maxed += numbers[i][j] == 12 ? 1 : 0;
+                    }
+                }
+                assertEquals(maxed, board.getMaxedClockCount());
             }
-        };
+        }
+    }
 
-        GameLogic gameLogicWithMock = new GameLogic(screenWidth, screenHeight, unitSize) {
-            @Override
-            public void saveScoreToDatabase(String playerName) {
-                mockDatabaseManager.saveScore(playerName, getApplesEaten());
-            }
-        };
+    /**
+     * Tests the variable-length records of the journal: a record of button b takes one byte up to b = 7, two bytes
+     * up to b = 1023 and three bytes above, only the last byte of a record has its high bit clear,
+     * and the saved bytes replay the same game.
+     */
+    @Test
+    void testJournalRecordsAcrossByteBoundaries() {
+        Board board = new Board(100, 9);
+        long[] initial = board.getPackedClocks();
+        int[] buttons = {0, 7, 8, 1023, 1024, 9800, 7, 1024};
+        int[] recordBytes = {1, 1, 2, 2, 3, 3, 1, 3};
+        for (int i = 0; i < buttons.length; i++) {
+            int before = board.getJournal().byteSize();
+            board.click(buttons[i]);
+            assertEquals(recordBytes[i], board.getJournal().byteSize() - before, "Record of button " + buttons[i]);
+        }
+
+        byte[] moves = board.getJournal().toByteArray();
+        int records = 0;
+        for (byte b : moves) {
+            records += (b & 0x80) == 0 ? 1 : 0;
+        }
+        assertEquals(buttons.length, records);
+        assertEquals(buttons.length, board.getJournal().size());
+
+        long[] end = board.getPackedClocks();
+        Board replayed = new Board(100, 9, moves);
+        assertArrayEquals(end, replayed.getPackedClocks());
+        assertEquals(buttons.length, replayed.getClickCount());
+        assertArrayEquals(moves, replayed.getJournal().toByteArray());
 
-        String playerName = "TestPlayer";
-        gameLogicWithMock.saveScoreToDatabase(playerName);
+        while (board.undo()) {
+            assertTrue(board.canRedo());
+        }
+        assertArrayEquals(initial, board.getPackedClocks());
+        while (board.redo()) {
+            assertTrue(board.canUndo());
+        }
+        assertArrayEquals(end, board.getPackedClocks());
+        board.refreshGame();
+        assertEquals(0, board.getJournal().getPly());
+        board.jumpTo(buttons.length);
+        assertArrayEquals(end, board.getPackedClocks());
 
-        assertTrue(((DatabaseManager) mockDatabaseManager).isSaveCalled(), "saveScoreToDatabase should save the score.");
+        MoveJournal loaded = MoveJournal.fromByteArray(moves);
+        assertEquals(buttons.length, loaded.size());
+        assertEquals(0, loaded.getPly());
+        assertTrue(loaded.canRedo());
+        assertFalse(loaded.canUndo());
+        assertThrows(IllegalArgumentException.class, () -> MoveJournal.fromByteArray(new byte[]{(byte) 0x80}));
+        assertThrows(IllegalArgumentException.class, () -> new Board(3, 9, moves));
     }
 
     /**
-     * Tests the {@code checkCollisions} method to verify that the game ends correctly
-     * when the snake collides with itself.
+     * Tests that the journal records which clocks a click turned, so undoing clicks on clocks that were already at 12
+     * leaves them there, and a new click after an undo drops the clicks that could have been redone.
      */
     @Test
-    void testSnakeCollisionEndsGame() {
-        gameLogic.startGame();
+    void testJournalUndoesOnlyTurnedClocks() {
+        Board board = new Board(2, 11);
+        long[] initial = board.getPackedClocks();
+        for (int click = 0; click < 15; click++) {
+            board.click(0);
+        }
+        assertTrue(board.allClocksAreMaxed());
+        assertEquals(15, board.getJournal().byteSize());
 
-        // Simulate the snake colliding with itself
-        gameLogic.getX()[0] = gameLogic.getX()[1];
-        gameLogic.getY()[0] = gameLogic.getY()[1];
+        board.jumpTo(12);
+        assertTrue(board.allClocksAreMaxed());
+        board.jumpTo(0);
+        assertArrayEquals(initial, board.getPackedClocks());
 
-        boolean collision = gameLogic.checkCollisions();
+        board.jumpTo(5);
+        board.click(0);
+        assertEquals(6, board.getJournal().size());
+        assertFalse(board.canRedo());
+        assertThrows(IndexOutOfBoundsException.class, () -> board.jumpTo(7));
+        assertArrayEquals(new Board(2, 11, board.getJournal().toByteArray()).getPackedClocks(), board.getPackedClocks());
+    }
+
+    private static int bruteForceMinimumClicks(Board board) {
+        int best = Integer.MAX_VALUE;
+        for (int combination = 0; combination < 12 * 12 * 12 * 12; combination++) {
+            int[] clicks = {combination % 12, combination / 12 % 12, combination / 144 % 12, combination / 1728};
+            boolean solved = true;
+            for (int i = 0; i < 3 && solved; i++) {
+                for (int j = 0; j < 3 && solved; j++) {
+                    int turns = 0;
+                    for (int button = 0; button < 4; button++) {
+                        int row = button / 2;
+                        int col = button % 2;
+                        if ((i == row || i == row + 1) && (j == col || j == col + 1)) {
+                            turns += clicks[button];
+                        }
+                    }
+                    solved = board.getNumber(i, j) + turns >= 12;
+                }
+            }
+            if (solved) {
+                best = Math.min(best, clicks[0] + clicks[1] + clicks[2] + clicks[3]);
+            }
+        }
+        return best;
+    }
+
+    private static int[][] numbers(Board board) {
+        int size = board.getBoardSize();
+        int[][] numbers = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                numbers[i][j] = board.getNumber(i, j);
+            }
+        }
+        return numbers;
+    }
 
-        assertTrue(collision, "checkCollisions should return true if the snake hits itself.");
-        assertFalse(gameLogic.isRunning(), "Game should not be running after a collision.");
+    private static void assertClocksMatchPacked(Board board) {
+        int size = board.getBoardSize();
+        long[] packed = board.getPackedClocks();
+        for (int index = 0; index < size * size; index++) {
+            int number = (int) ((packed[index / 16] >>> (index % 16) * 4) & 0xF);
+            assertEquals(number, board.getNumber(index / size, index % size));
+            assertTrue(number >= 1 && number <= 12, "Clock " + index + " shows " + number);
+        }
     }
 }
@@ -1,6 +1,48 @@
-create database Highscores;
-create table Highscores.HIGHSCORES (
+-- High-score schema shared with the Snake game (game.model.SchemaManager in snake2), version 2.
+-- Every statement can run again, so the script both creates a new database and upgrades one
+-- created by the first version of this script, which kept the scores in the HIGHSCORES table.
+create database if not exists Highscores;
+use Highscores;
+
+create table if not exists schema_version (
+version int not null primary key,
+applied_at timestamp not null default current_timestamp
+);
+
+-- Version 1
+create table if not exists players (
+id int not null auto_increment primary key,
+name varchar(255) not null unique
+);
+
+create table if not exists scores (
+id bigint not null auto_increment primary key,
+player_id int not null,
+score int not null,
+created_at timestamp not null default current_timestamp,
+foreign key (player_id) references players (id),
+-- Overall leaderboard: the best scores are the first rows of this index
+index idx_scores_rank (score desc, created_at),
+-- Per-player leaderboards and pruning
+index idx_scores_player_rank (player_id, score desc, created_at)
+);
+
+insert ignore into schema_version (version) values (1);
+
+-- Version 2 copies the scores of the old table once; a new database gets the table empty
+create table if not exists HIGHSCORES (
 timestamp timestamp,
 name varchar(255),
 score int
-);
\ No newline at end of file
+);
+
+start transaction;
+insert into players (name)
+select distinct name from HIGHSCORES
+where name is not null and name not in (select name from players);
+insert into scores (player_id, score, created_at)
+select p.id, h.score, coalesce(h.timestamp, current_timestamp)
+from HIGHSCORES h join players p on p.name = h.name
+where h.score is not null and not exists (select 1 from schema_version where version = 2);
+insert ignore into schema_version (version) values (2);
+commit;
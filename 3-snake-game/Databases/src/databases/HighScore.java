@@ -5,6 +5,8 @@
  */
 package databases;
 
+import java.sql.Timestamp;
+
 /**
  *
  * @author bli
@@ -13,10 +15,21 @@ public class HighScore {
     
     private final String name;
     private final int score;
+    private final Timestamp timestamp;
 
     public HighScore(String name, int score) {
+        this(name, score, null);
+    }
+
+    /**
+     * @param name
+     * @param score
+     * @param timestamp when the score was reached, or null if it is not known
+     */
+    public HighScore(String name, int score, Timestamp timestamp) {
         this.name = name;
         this.score = score;
+        this.timestamp = timestamp;
     }
 
     public String getName() {
@@ -27,9 +40,13 @@ public class HighScore {
         return score;
     }
 
+    public Timestamp getTimestamp() {
+        return timestamp;
+    }
+
     @Override
     public String toString() {
-        return "HighScore{" + "name=" + name + ", score=" + score + '}';
+        return "HighScore{" + "name=" + name + ", score=" + score + ", timestamp=" + timestamp + '}';
     }
     
 
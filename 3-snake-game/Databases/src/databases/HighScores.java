@@ -10,24 +10,44 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
+ * Keeps the best maxScores high scores in memory and writes every change through to the database.
+ * The scores are loaded once; after that reading them does not touch the database and
+ * adding one costs O(log maxScores) plus one insert and at most one delete.
  *
  * @author bli
  */
 public class HighScores {
 
+    /**
+     * Orders the high scores from best to worst: higher scores first, and of equal scores the older one first.
+     */
+    private static final Comparator<HighScore> RANKING = Comparator.comparingInt(HighScore::getScore).reversed()
+            .thenComparing(HighScore::getTimestamp, Comparator.nullsLast(Comparator.naturalOrder()));
+
     int maxScores;
+    PreparedStatement insertPlayerStatement;
     PreparedStatement insertStatement;
     PreparedStatement deleteStatement;
     Connection connection;
 
+    /**
+     * The best high scores, the worst of them at the head of the queue.
+     */
+    private final PriorityQueue<HighScore> highScores;
+
     public HighScores(int maxScores) throws SQLException {
         this.maxScores = maxScores;
         Properties connectionProps = new Properties();
@@ -36,71 +56,196 @@ public class HighScores {
         connectionProps.put("user", "root");
         connectionProps.put("password", "progtech");
         connectionProps.put("serverTimezone", "UTC");
+        // Lets the driver send a batch of inserts as a single multi-row statement
+        connectionProps.put("rewriteBatchedStatements", "true");
         String dbURL = "jdbc:mysql://localhost:3306/Highscores";
         connection = DriverManager.getConnection(dbURL, connectionProps);
         
         
-        String insertQuery = "INSERT INTO HIGHSCORES (TIMESTAMP, NAME, SCORE) VALUES (?, ?, ?)";
+        // The schema is created by highscores_db.sql
+        String insertPlayerQuery = "INSERT INTO players (name) SELECT ? FROM DUAL "
+                + "WHERE NOT EXISTS (SELECT 1 FROM players WHERE name = ?)";
+        insertPlayerStatement = connection.prepareStatement(insertPlayerQuery);
+        String insertQuery = "INSERT INTO scores (player_id, score, created_at) SELECT id, ?, ? FROM players WHERE name = ?";
         insertStatement = connection.prepareStatement(insertQuery);
-        String deleteQuery = "DELETE FROM HIGHSCORES WHERE SCORE=?";
+        String deleteQuery = "DELETE FROM scores WHERE player_id = (SELECT id FROM players WHERE name = ?) "
+                + "AND score = ? AND created_at = ? LIMIT 1";
         deleteStatement = connection.prepareStatement(deleteQuery);
+
+        highScores = new PriorityQueue<>(maxScores + 1, RANKING.reversed());
+        loadHighScores();
     }
 
-    public ArrayList<HighScore> getHighScores() throws SQLException {
-        String query = "SELECT * FROM HIGHSCORES";
-        ArrayList<HighScore> highScores = new ArrayList<>();
-        Statement stmt = connection.createStatement();
-        ResultSet results = stmt.executeQuery(query);
-        while (results.next()) {
-            String name = results.getString("NAME");
-            int score = results.getInt("SCORE");
-            highScores.add(new HighScore(name, score));
+    /**
+     * Loads the best maxScores high scores from the database, reading only the first rows of the rank index.
+     */
+    private void loadHighScores() throws SQLException {
+        String query = "SELECT s.created_at, p.name, s.score FROM scores s JOIN players p ON p.id = s.player_id "
+                + "ORDER BY s.score DESC, s.created_at LIMIT ?";
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setInt(1, maxScores);
+            try (ResultSet results = stmt.executeQuery()) {
+                while (results.next()) {
+                    String name = results.getString("name");
+                    int score = results.getInt("score");
+                    Timestamp timestamp = results.getTimestamp("created_at");
+                    highScores.add(new HighScore(name, score, timestamp));
+                }
+            }
         }
-        sortHighScores(highScores);
-        return highScores;
     }
 
+    /**
+     * Returns the high scores from memory, from best to worst.
+     */
+    public ArrayList<HighScore> getHighScores() throws SQLException {
+        ArrayList<HighScore> sorted = new ArrayList<>(highScores);
+        sortHighScores(sorted);
+        return sorted;
+    }
+
+    /**
+     * Adds the score if there is room or if it beats the worst high score, which is then deleted.
+     */
     public void putHighScore(String name, int score) throws SQLException {
-        ArrayList<HighScore> highScores = getHighScores();
+        Timestamp ts = wholeSeconds(Instant.now());
+        HighScore highScore = new HighScore(name, score, ts);
         if (highScores.size() < maxScores) {
-            insertScore(name, score);
-        } else {
-            int leastScore = highScores.get(highScores.size() - 1).getScore();
-            if (leastScore < score) {
-                deleteScores(leastScore);
-                insertScore(name, score);
+            insertScore(highScore);
+            highScores.add(highScore);
+        } else if (RANKING.compare(highScore, highScores.peek()) < 0) {
+            deleteScore(highScores.peek());
+            insertScore(highScore);
+            highScores.poll();
+            highScores.add(highScore);
+        }
+    }
+
+    /**
+     * Imports many high scores at once, for example from an offline tournament.
+     * The scores are merged with the current high scores in memory, and only the difference is written:
+     * the rows that drop out are deleted and the new ones inserted with JDBC batches in a single transaction.
+     * If the transaction fails it is rolled back and the high scores stay unchanged.
+     * Scores without a timestamp get the time of the import, and the others are cut to whole seconds
+     * like the database stores them, so the rows can later be deleted by their timestamp.
+     *
+     * @param scores the high scores to import
+     * @return the number of processed, inserted and deleted scores and the throughput
+     */
+    public IngestionReport ingest(Stream<HighScore> scores) throws SQLException {
+        long start = System.nanoTime();
+        Timestamp now = wholeSeconds(Instant.now());
+
+        PriorityQueue<HighScore> merged = new PriorityQueue<>(highScores);
+        long[] received = {0};
+        scores.forEach(score -> {
+            received[0]++;
+            Timestamp timestamp = score.getTimestamp() == null ? now : wholeSeconds(score.getTimestamp().toInstant());
+            HighScore highScore = timestamp.equals(score.getTimestamp())
+                    ? score
+                    : new HighScore(score.getName(), score.getScore(), timestamp);
+            if (merged.size() < maxScores) {
+                merged.add(highScore);
+            } else if (RANKING.compare(highScore, merged.peek()) < 0) {
+                merged.poll();
+                merged.add(highScore);
+            }
+        });
+
+        Set<HighScore> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(merged);
+        ArrayList<HighScore> deleted = new ArrayList<>();
+        for (HighScore highScore : highScores) {
+            if (!kept.remove(highScore)) {
+                deleted.add(highScore);
+            }
+        }
+        // What is left of kept are the ingested scores that made it into the high scores
+        applyBatch(deleted, kept);
+
+        highScores.clear();
+        highScores.addAll(merged);
+        return new IngestionReport(received[0], kept.size(), deleted.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Deletes and inserts the given high scores in one transaction.
+     */
+    private void applyBatch(Iterable<HighScore> deleted, Iterable<HighScore> inserted) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (HighScore highScore : deleted) {
+                setDeleteParameters(highScore);
+                deleteStatement.addBatch();
+            }
+            deleteStatement.executeBatch();
+            for (HighScore highScore : inserted) {
+                setInsertPlayerParameters(highScore);
+                insertPlayerStatement.addBatch();
+                setInsertParameters(highScore);
+                insertStatement.addBatch();
             }
+            insertPlayerStatement.executeBatch();
+            insertStatement.executeBatch();
+            connection.commit();
+        } catch (SQLException ex) {
+            deleteStatement.clearBatch();
+            insertPlayerStatement.clearBatch();
+            insertStatement.clearBatch();
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(autoCommit);
         }
     }
 
+    /**
+     * The database stores whole seconds, so a deleted row can only be matched by a timestamp without fractions.
+     */
+    private static Timestamp wholeSeconds(Instant instant) {
+        return Timestamp.from(instant.truncatedTo(ChronoUnit.SECONDS));
+    }
+
     /**
      * Sort the high scores in descending order.
      * @param highScores 
      */
     private void sortHighScores(ArrayList<HighScore> highScores) {
-        Collections.sort(highScores, new Comparator<HighScore>() {
-            @Override
-            public int compare(HighScore t, HighScore t1) {
-                return t1.getScore() - t.getScore();
-            }
-        });
+        Collections.sort(highScores, RANKING);
     }
 
-    private void insertScore(String name, int score) throws SQLException {
-        Timestamp ts = new Timestamp(System.currentTimeMillis());
-        insertStatement.setTimestamp(1, ts);
-        insertStatement.setString(2, name);
-        insertStatement.setInt(3, score);
+    private void insertScore(HighScore highScore) throws SQLException {
+        setInsertPlayerParameters(highScore);
+        insertPlayerStatement.executeUpdate();
+        setInsertParameters(highScore);
         insertStatement.executeUpdate();
     }
 
+    private void setInsertPlayerParameters(HighScore highScore) throws SQLException {
+        insertPlayerStatement.setString(1, highScore.getName());
+        insertPlayerStatement.setString(2, highScore.getName());
+    }
+
+    private void setInsertParameters(HighScore highScore) throws SQLException {
+        insertStatement.setInt(1, highScore.getScore());
+        insertStatement.setTimestamp(2, highScore.getTimestamp());
+        insertStatement.setString(3, highScore.getName());
+    }
+
     /**
-     * Deletes all the highscores with score.
+     * Deletes the given highscore.
      *
-     * @param score
+     * @param highScore
      */
-    private void deleteScores(int score) throws SQLException {
-        deleteStatement.setInt(1, score);
+    private void deleteScore(HighScore highScore) throws SQLException {
+        setDeleteParameters(highScore);
         deleteStatement.executeUpdate();
     }
+
+    private void setDeleteParameters(HighScore highScore) throws SQLException {
+        deleteStatement.setString(1, highScore.getName());
+        deleteStatement.setInt(2, highScore.getScore());
+        deleteStatement.setTimestamp(3, highScore.getTimestamp());
+    }
 }
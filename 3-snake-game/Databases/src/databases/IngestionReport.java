@@ -0,0 +1,64 @@
+package databases;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of one bulk ingestion of high scores.
+ */
+public class IngestionReport {
+
+    private final long received;
+    private final int inserted;
+    private final int deleted;
+    private final long elapsedNanos;
+
+    /**
+     * @param received     the number of high scores in the ingested stream
+     * @param inserted     the number of rows inserted into the database
+     * @param deleted      the number of rows deleted from the database
+     * @param elapsedNanos how long the ingestion took, including the transaction
+     */
+    public IngestionReport(long received, int inserted, int deleted, long elapsedNanos) {
+        this.received = received;
+        this.inserted = inserted;
+        this.deleted = deleted;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * @return the number of received high scores that did not make it into the top scores
+     */
+    public long getRejected() {
+        return received - inserted;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the number of received high scores processed per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : received * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionReport{" + "received=" + received + ", inserted=" + inserted + ", deleted=" + deleted
+                + ", elapsedMillis=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+                + ", throughput=" + String.format("%.0f", getThroughput()) + "/s" + '}';
+    }
+}
@@ -2,10 +2,13 @@ package game;
 
 import game.controller.GameController;
 import game.model.GameLogic;
+import game.view.ActiveGameCanvas;
 import game.view.GameConfig;
 import game.view.GamePanel;
 
 import javax.swing.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 /**
  * The main class for the Snake Game application.
@@ -13,16 +16,44 @@ import javax.swing.*;
 public class SnakeGame extends JFrame {
 
     public SnakeGame() {
-        GameConfig config = new GameConfig(600, 600, 25);
+        this(false, GameConfig.DEFAULT_TARGET_FPS);
+    }
+
+    /**
+     * Creates the game window.
+     *
+     * @param activeRendering whether to draw the game on its own thread with page flipping instead of through Swing
+     * @param targetFps       the number of frames per second active rendering aims for
+     */
+    public SnakeGame(boolean activeRendering, int targetFps) {
+        GameConfig config = new GameConfig(600, 600, 25, GameConfig.DEFAULT_TICK_RATE, targetFps);
 
         GameLogic gameLogic = new GameLogic(config);
+        gameLogic.loadLeaderboard();
+        gameLogic.startScorePruning();
+
+        ActiveGameCanvas gameCanvas = null;
+        if (activeRendering) {
+            gameCanvas = new ActiveGameCanvas(null, config);
 
-        GamePanel gamePanel = new GamePanel(null);
+            GameController controller = new GameController(gameLogic, gameCanvas, config.getTickRate());
+            gameCanvas.setController(controller);
 
-        GameController controller = new GameController(gameLogic, gamePanel);
-        gamePanel.setController(controller);
+            add(gameCanvas);
+        } else {
+            GamePanel gamePanel = new GamePanel(null, config);
 
-        add(gamePanel);
+            GameController controller = new GameController(gameLogic, gamePanel, config.getTickRate());
+            gamePanel.setController(controller);
+
+            add(gamePanel);
+        }
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                gameLogic.closeDatabase();
+            }
+        });
 
         setTitle("Snake Game");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -30,9 +61,39 @@ public class SnakeGame extends JFrame {
         pack();
         setLocationRelativeTo(null);
         setVisible(true);
+        if (gameCanvas != null) {
+            gameCanvas.start();
+        }
     }
 
+    /**
+     * Launches the game.
+     *
+     * Prints the usage instead if the target frame rate is not a positive number.
+     *
+     * @param args optionally "active" to draw the game with active rendering, followed by the target frame rate
+     */
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(SnakeGame::new);
+        boolean activeRendering = args.length > 0 && args[0].equals("active");
+        int targetFps = args.length > 1 ? parseTargetFps(args[1]) : GameConfig.DEFAULT_TARGET_FPS;
+        if (targetFps <= 0) {
+            System.err.println("Usage: SnakeGame [active [target frame rate, a positive number]]");
+            return;
+        }
+        SwingUtilities.invokeLater(() -> new SnakeGame(activeRendering, targetFps));
+    }
+
+    /**
+     * Parses the target frame rate given on the command line.
+     *
+     * @param arg the argument
+     * @return the frame rate, or -1 if the argument is not a number
+     */
+    private static int parseTargetFps(String arg) {
+        try {
+            return Integer.parseInt(arg.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 }
@@ -1,70 +1,85 @@
 package game.controller;
 
 import game.model.GameLogic;
-import game.view.GamePanel;
+import game.view.GameConfig;
+import game.view.GameView;
 
+import javax.swing.*;
 import java.awt.event.KeyEvent;
 
 /**
  * The GameController class manages interactions between game logic and UI.
+ * The snake is moved by a GameLoop on its own thread; the controller queues the player's direction changes
+ * and has the view render the board after every tick.
  */
-public class GameController {
+public class GameController implements GameLoop.TickListener {
     private final GameLogic gameLogic;
-    private final GamePanel gamePanel;
+    private final GameView gameView;
+    private final GameLoop gameLoop;
 
-    public GameController(GameLogic gameLogic, GamePanel gamePanel) {
+    public GameController(GameLogic gameLogic, GameView gameView) {
+        this(gameLogic, gameView, GameConfig.DEFAULT_TICK_RATE);
+    }
+
+    public GameController(GameLogic gameLogic, GameView gameView, int tickRate) {
         this.gameLogic = gameLogic;
-        this.gamePanel = gamePanel;
+        this.gameView = gameView;
+        this.gameLoop = new GameLoop(gameLogic, tickRate);
+        this.gameLoop.setTickListener(this);
     }
 
 
     public void startGame() {
-        gameLogic.startGame();
-        gamePanel.repaint();
+        gameLoop.stop();
+        synchronized (gameLogic) {
+            gameLogic.startGame();
+        }
+        gameView.renderFrame();
+        gameLoop.start();
     }
 
     public void restartGame() {
-        gameLogic.startGame();
-        gamePanel.repaint();
+        startGame();
     }
 
     public void handleKeyPress(KeyEvent e) {
         char keyChar = e.getKeyChar();
-        char direction = gameLogic.getDirection();
 
         switch (keyChar) {
-            case 'a' -> {
-                if (direction != 'R') gameLogic.setDirection('L');
-            }
-            case 'd' -> {
-                if (direction != 'L') gameLogic.setDirection('R');
-            }
-            case 'w' -> {
-                if (direction != 'D') gameLogic.setDirection('U');
-            }
-            case 's' -> {
-                if (direction != 'U') gameLogic.setDirection('D');
-            }
+            case 'a' -> gameLoop.queueDirection('L');
+            case 'd' -> gameLoop.queueDirection('R');
+            case 'w' -> gameLoop.queueDirection('U');
+            case 's' -> gameLoop.queueDirection('D');
             default -> {
-                gamePanel.gameOver();
-                return;
+                gameLoop.stop();
+                gameView.gameOver();
             }
         }
-        updateGame();
     }
 
+    /**
+     * Advances the game by a single tick on the calling thread.
+     */
     public void updateGame() {
-        gameLogic.move();
-        if (gameLogic.checkApple()) {
-            gamePanel.repaint();
-        }
-        if (gameLogic.checkCollisions()) {
-            gamePanel.gameOver();
-        }
-        gamePanel.repaint();
+        gameLoop.step();
+    }
+
+    @Override
+    public void tick(boolean ateApple) {
+        gameView.renderFrame();
+    }
+
+    @Override
+    public void gameOver() {
+        gameView.renderFrame();
+        SwingUtilities.invokeLater(gameView::gameOver);
     }
 
     public GameLogic getGameLogic() {
         return gameLogic;
     }
+
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
 }
@@ -0,0 +1,234 @@
+package game.controller;
+
+import game.model.GameLogic;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The GameLoop class advances the game logic at a fixed rate on its own thread, independently of the Swing event thread.
+ * Direction changes are queued and applied at most one per tick, so quick key presses are not lost, and a change
+ * that would reverse the snake is rejected when it is applied.
+ * Every tick and every read of the state for drawing synchronizes on the GameLogic instance, so the renderer
+ * always sees the state between two ticks.
+ */
+public class GameLoop {
+
+    /**
+     * Receives the results of the ticks. The methods are called on the thread that runs the loop.
+     */
+    public interface TickListener {
+
+        /**
+         * Called after every tick that leaves the game running.
+         *
+         * @param ateApple whether the snake ate the apple during the tick
+         */
+        void tick(boolean ateApple);
+
+        /**
+         * Called once after the tick in which the snake collided.
+         */
+        void gameOver();
+    }
+
+    /**
+     * The number of direction changes that can wait for the next ticks; further key presses are ignored.
+     */
+    private static final int MAX_QUEUED_DIRECTIONS = 3;
+
+    /**
+     * The number of ticks the loop may fall behind before it stops catching up and skips them.
+     */
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final GameLogic gameLogic;
+    private final long tickNanos;
+    private final BlockingQueue<Character> directions;
+    private TickListener listener;
+
+    private volatile boolean active;
+    private Thread thread;
+    private long ticks;
+
+    /**
+     * Constructs a loop for the given game logic.
+     *
+     * @param gameLogic the game logic to advance
+     * @param tickRate  the number of ticks per second
+     */
+    public GameLoop(GameLogic gameLogic, int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        this.gameLogic = gameLogic;
+        this.tickNanos = TimeUnit.SECONDS.toNanos(1) / tickRate;
+        this.directions = new ArrayBlockingQueue<>(MAX_QUEUED_DIRECTIONS);
+    }
+
+    /**
+     * Sets the listener that is told about every tick.
+     *
+     * @param listener the listener, or null to run without one
+     */
+    public void setTickListener(TickListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Queues a direction change for one of the next ticks.
+     *
+     * @param direction the new direction: 'U', 'D', 'L' or 'R'
+     * @return true if the change was queued, false if the queue is full
+     */
+    public boolean queueDirection(char direction) {
+        if ("UDLR".indexOf(direction) < 0) {
+            throw new IllegalArgumentException("Unknown direction: " + direction);
+        }
+        return directions.offer(direction);
+    }
+
+    /**
+     * Starts ticking at the configured rate on a new thread. A loop that is already running is stopped first.
+     */
+    public synchronized void start() {
+        stop();
+        directions.clear();
+        active = true;
+        thread = new Thread(this::run, "snake-game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the ticking thread and waits for it to finish, unless it is called from that thread.
+     */
+    public synchronized void stop() {
+        active = false;
+        Thread current = thread;
+        thread = null;
+        if (current != null && current != Thread.currentThread()) {
+            LockSupport.unpark(current);
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the ticking thread is running.
+     *
+     * @return true if the loop is ticking
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Runs the game on the calling thread as fast as possible, without waiting between ticks.
+     * This is meant for bots, tests and benchmarks.
+     *
+     * @param maxTicks the largest number of ticks to run
+     * @return the number of ticks that were run before the game ended or the limit was reached
+     */
+    public long runHeadless(long maxTicks) {
+        long run = 0;
+        while (run < maxTicks && step()) {
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Advances the game by exactly one tick: applies the next valid queued direction, moves the snake
+     * and checks for the apple and collisions.
+     *
+     * @return true if the game is still running after the tick
+     */
+    public boolean step() {
+        boolean ateApple;
+        boolean collided;
+        synchronized (gameLogic) {
+            if (!gameLogic.isRunning()) {
+                return false;
+            }
+            applyNextDirection();
+            gameLogic.move();
+            ateApple = gameLogic.checkApple();
+            collided = gameLogic.checkCollisions();
+            ticks++;
+        }
+
+        TickListener current = listener;
+        if (current != null) {
+            if (collided) {
+                current.gameOver();
+            } else {
+                current.tick(ateApple);
+            }
+        }
+        return !collided;
+    }
+
+    /**
+     * Returns the number of ticks run since the loop was created.
+     *
+     * @return the number of ticks
+     */
+    public long getTicks() {
+        synchronized (gameLogic) {
+            return ticks;
+        }
+    }
+
+    /**
+     * Applies the first queued direction that does not reverse the snake; reversing ones are dropped.
+     */
+    private void applyNextDirection() {
+        Character next;
+        while ((next = directions.poll()) != null) {
+            if (next != opposite(gameLogic.getDirection())) {
+                gameLogic.setDirection(next);
+                return;
+            }
+        }
+    }
+
+    private static char opposite(char direction) {
+        return switch (direction) {
+            case 'U' -> 'D';
+            case 'D' -> 'U';
+            case 'L' -> 'R';
+            case 'R' -> 'L';
+            default -> direction;
+        };
+    }
+
+    /**
+     * Ticks at a fixed rate until the game ends or the loop is stopped.
+     * Deadlines are computed from the start time rather than from the end of the previous tick, so the rate
+     * does not drift; if the loop falls far behind it skips the missed ticks instead of running them in a burst.
+     */
+    private void run() {
+        long nextTick = System.nanoTime() + tickNanos;
+        while (active) {
+            long now = System.nanoTime();
+            if (now < nextTick) {
+                LockSupport.parkNanos(nextTick - now);
+                continue;
+            }
+            if (!step()) {
+                active = false;
+                return;
+            }
+            nextTick += tickNanos;
+            if (now - nextTick > MAX_CATCH_UP_TICKS * tickNanos) {
+                nextTick = now + tickNanos;
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package game.model;
 
-import java.awt.*;
 import java.util.Random;
-import java.util.List;
 
 /**
  * The AppleManager class is responsible for managing the apple's position in the game.
@@ -31,36 +29,22 @@ public class AppleManager {
     }
 
     /**
-     * Generates a new apple position, ensuring it doesn't overlap with obstacles or the snake.
+     * Generates a new apple position, picked uniformly from the cells without obstacles or snake segments.
+     * If no such cell is left, the apple is moved off the board.
      *
-     * @param obstacles a list of obstacle points to avoid
-     * @param snakeX    an array of x-coordinates representing the snake's position
-     * @param snakeY    an array of y-coordinates representing the snake's position
-     * @param bodyParts the number of snake body parts
+     * @param occupancy the grid tracking the obstacles and the snake's body
+     * @param headX     the x-coordinate of the snake's head in pixels, which is never picked
+     * @param headY     the y-coordinate of the snake's head in pixels, which is never picked
      */
-    public void generateNewApple(List<Point> obstacles, int[] snakeX, int[] snakeY, int bodyParts) {
-        boolean validPosition;
-        do {
-            validPosition = true;
-            appleX = random.nextInt(screenWidth / unitSize) * unitSize;
-            appleY = random.nextInt(screenHeight / unitSize) * unitSize;
-
-            // Check if apple overlaps with obstacles
-            for (Point obstacle : obstacles) {
-                if (appleX == obstacle.x * unitSize && appleY == obstacle.y * unitSize) {
-                    validPosition = false;
-                    break;
-                }
-            }
-
-            // Check if apple overlaps with the snake
-            for (int i = 0; i < bodyParts; i++) {
-                if (appleX == snakeX[i] && appleY == snakeY[i]) {
-                    validPosition = false;
-                    break;
-                }
-            }
-        } while (!validPosition);
+    public void generateNewApple(OccupancyGrid occupancy, int headX, int headY) {
+        int cell = occupancy.randomFreeCell(random, Math.floorDiv(headX, unitSize), Math.floorDiv(headY, unitSize));
+        if (cell < 0) {
+            appleX = -unitSize;
+            appleY = -unitSize;
+            return;
+        }
+        appleX = (cell % occupancy.getColumns()) * unitSize;
+        appleY = (cell / occupancy.getColumns()) * unitSize;
     }
 
 
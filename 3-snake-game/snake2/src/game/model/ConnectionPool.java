@@ -0,0 +1,203 @@
+package game.model;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of JDBC connections. Connections are opened lazily, only when no idle one is available,
+ * and every pooled connection prepares each SQL statement once and reuses it afterwards.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * How long a caller waits for a connection when all of them are in use.
+     */
+    private static final long BORROW_TIMEOUT_SECONDS = 10;
+
+    /**
+     * How long a connection may take to answer the check made before an idle connection is handed out.
+     */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final BlockingQueue<PooledConnection> idle;
+    private int open;
+    private boolean closed;
+
+    /**
+     * Constructs an empty pool. No connection is opened until one is borrowed.
+     *
+     * @param url      the JDBC URL of the database
+     * @param username the database user
+     * @param password the password of the user
+     * @param maxSize  the largest number of connections open at the same time
+     */
+    public ConnectionPool(String url, String username, String password, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxSize);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.idle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Borrows a connection: an idle one if there is a working one, otherwise a new one if the pool is not full,
+     * otherwise the first one returned by another caller.
+     * Closing the borrowed connection returns it to the pool.
+     *
+     * @return a connection that is not used by anyone else
+     * @throws SQLException if a connection cannot be opened or none becomes available in time
+     */
+    public PooledConnection borrow() throws SQLException {
+        PooledConnection connection;
+        while ((connection = idle.poll()) != null) {
+            if (connection.isValid()) {
+                return connection;
+            }
+            discard(connection);
+        }
+
+        PooledConnection opened = openIfRoom();
+        if (opened != null) {
+            return opened;
+        }
+
+        try {
+            connection = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (connection == null) {
+            throw new SQLException("No database connection became available within " + BORROW_TIMEOUT_SECONDS + " seconds");
+        }
+        return connection;
+    }
+
+    /**
+     * Closes every connection of the pool. Connections that are borrowed at the moment are closed when they are returned.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idle.poll()) != null) {
+            discard(connection);
+        }
+    }
+
+    /**
+     * Opens a new connection if fewer than {@code maxSize} connections are open.
+     * The slot is reserved first, so the pool is not locked while the connection is being opened.
+     */
+    private PooledConnection openIfRoom() throws SQLException {
+        synchronized (this) {
+            if (closed) {
+                throw new SQLException("The connection pool is closed");
+            }
+            if (open >= maxSize) {
+                return null;
+            }
+            open++;
+        }
+        boolean opened = false;
+        try {
+            PooledConnection connection = new PooledConnection(DriverManager.getConnection(url, username, password));
+            opened = true;
+            return connection;
+        } finally {
+            if (!opened) {
+                synchronized (this) {
+                    open--;
+                }
+            }
+        }
+    }
+
+    private synchronized void release(PooledConnection connection) {
+        if (closed || !idle.offer(connection)) {
+            discard(connection);
+        }
+    }
+
+    private synchronized void discard(PooledConnection connection) {
+        open--;
+        connection.closeQuietly();
+    }
+
+    /**
+     * A connection borrowed from the pool, together with the statements prepared on it.
+     */
+    public final class PooledConnection implements AutoCloseable {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Returns the statement for the given SQL, preparing it the first time it is used on this connection.
+         *
+         * @param sql the SQL of the statement
+         * @return the prepared statement, with the parameters of its previous use cleared
+         * @throws SQLException if the statement cannot be prepared
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            } else {
+                statement.clearParameters();
+            }
+            return statement;
+        }
+
+        /**
+         * Returns the underlying JDBC connection.
+         *
+         * @return the connection
+         */
+        public Connection getConnection() {
+            return connection;
+        }
+
+        /**
+         * Returns the connection to the pool.
+         */
+        @Override
+        public void close() {
+            release(this);
+        }
+
+        private boolean isValid() {
+            try {
+                return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                System.err.println("Failed to close database connection: " + e.getMessage());
+            }
+        }
+    }
+}
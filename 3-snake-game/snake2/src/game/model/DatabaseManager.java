@@ -1,26 +1,216 @@
 package game.model;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-public class DatabaseManager {
+/**
+ * Stores and reads the high scores.
+ * Connections come from a small pool and every statement is prepared once per connection.
+ * All database work runs on a single background thread with a bounded queue, so saving a score never blocks the caller,
+ * and reads are ordered after the scores that were queued before them.
+ * Before the first task the schema is created or upgraded by {@link SchemaManager}.
+ */
+public class DatabaseManager implements AutoCloseable {
     private static final String DB_URL = "jdbc:mysql://localhost:3306/snake2?useSSL=false&serverTimezone=UTC";
     private static final String USERNAME = "root"; // Replace with your MySQL username
     private static final String PASSWORD = "progtech"; // Replace with your MySQL password
 
+    private static final String SELECT_PLAYER_ID = "SELECT id FROM players WHERE name = ?";
+    private static final String INSERT_PLAYER = "INSERT INTO players (name) VALUES (?)";
+    private static final String INSERT_SCORE = "INSERT INTO scores (player_id, score) VALUES (?, ?)";
+    // Reads the first rows of idx_scores_rank instead of sorting the table
+    private static final String SELECT_TOP_SCORES = "SELECT p.name AS player_name, s.score, s.created_at "
+            + "FROM scores s JOIN players p ON p.id = s.player_id ORDER BY s.score DESC, s.created_at LIMIT ?";
+    // The derived table lets MySQL delete from the table it ranks
+    private static final String PRUNE_SCORES = "DELETE FROM scores WHERE id IN (SELECT id FROM ("
+            + "SELECT id, "
+            + "ROW_NUMBER() OVER (ORDER BY score DESC, created_at, id) AS overall_rank, "
+            + "ROW_NUMBER() OVER (PARTITION BY player_id ORDER BY score DESC, created_at, id) AS player_rank "
+            + "FROM scores) ranked WHERE overall_rank > ? AND player_rank > ?)";
+
+    /**
+     * The number of pooled connections. One is enough for the writer thread; the second serves {@link #testConnection()}.
+     */
+    private static final int POOL_SIZE = 2;
+
+    /**
+     * The number of database tasks that can wait for the writer thread before new scores are dropped.
+     */
+    private static final int QUEUE_CAPACITY = 256;
+
+    /**
+     * How long {@link #close()} waits for the queued scores to be written.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ConnectionPool pool;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Whether the schema has been checked; only used on the background thread.
+     */
+    private boolean schemaReady;
+
+    /**
+     * Constructs a DatabaseManager for the MySQL database of the game.
+     * Nothing is opened until the first score is saved or read.
+     */
+    public DatabaseManager() {
+        this(DB_URL, USERNAME, PASSWORD);
+    }
+
+    /**
+     * Constructs a DatabaseManager for any JDBC database, for example an embedded one in tests.
+     * Nothing is opened until the first score is saved or read.
+     *
+     * @param url      the JDBC URL of the database
+     * @param username the database user
+     * @param password the password of the user
+     */
+    public DatabaseManager(String url, String username, String password) {
+        this.pool = new ConnectionPool(url, username, password, POOL_SIZE);
+        // The single thread is only started when the first task arrives.
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "snake-score-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
     /**
-     * Save a player's score to the database.
+     * Save a player's score to the database in the background.
+     * If too many scores are already waiting, the score is dropped and an error is printed.
      *
      * @param playerName The name of the player.
      * @param score      The score of the player.
      */
     public void saveScore(String playerName, int score) {
-        String query = "INSERT INTO Highscores (player_name, score) VALUES (?, ?)";
-        try (Connection connection = DriverManager.getConnection(DB_URL, USERNAME, PASSWORD);
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try {
+            CompletableFuture.runAsync(() -> insertScore(playerName, score), executor)
+                    .exceptionally(e -> {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        System.err.println("Failed to save score to database: " + cause.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            System.err.println("Score of " + playerName + " was not saved: too many scores are waiting to be written");
+        }
+    }
+
+    /**
+     * Fetch the top scores from the database, waiting for every score queued before.
+     *
+     * @return A list of formatted top scores as strings.
+     */
+    public List<String> getTopScores() {
+        try {
+            return getTopScoresAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching scores from database", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to fetch scores from database", e.getCause());
+        }
+    }
+
+    /**
+     * Fetch the top scores from the database in the background, after every score queued before.
+     *
+     * @return A future list of formatted top scores as strings.
+     */
+    public CompletableFuture<List<String>> getTopScoresAsync() {
+        return getTopEntriesAsync(Leaderboard.DEFAULT_CAPACITY).thenApply(entries -> {
+            List<String> topScores = new ArrayList<>();
+            for (ScoreEntry entry : entries) {
+                topScores.add(entry.toString());
+            }
+            return topScores;
+        });
+    }
+
+    /**
+     * Fetch the best scores from the database in the background, after every score queued before.
+     *
+     * @param limit The largest number of scores to fetch.
+     * @return A future list of the scores, from best to worst.
+     */
+    public CompletableFuture<List<ScoreEntry>> getTopEntriesAsync(int limit) {
+        try {
+            return CompletableFuture.supplyAsync(() -> selectTopScores(limit), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            preparedStatement.setString(1, playerName);
+    /**
+     * Delete, in the background, every score that is neither among the best scores overall
+     * nor among the best scores of its player.
+     *
+     * @param keepOverall   The number of best scores kept overall.
+     * @param keepPerPlayer The number of best scores kept for every player.
+     * @return A future number of deleted scores.
+     */
+    public CompletableFuture<Integer> pruneScoresAsync(int keepOverall, int keepPerPlayer) {
+        try {
+            return CompletableFuture.supplyAsync(() -> deleteScoresOutside(keepOverall, keepPerPlayer), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Test the database connection.
+     */
+    public void testConnection() {
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            System.out.println("Database connected successfully!");
+        } catch (SQLException e) {
+            throw new RuntimeException("Database connection failed", e);
+        }
+    }
+
+    /**
+     * Writes the queued scores, then closes the background thread and the connections.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Not every score could be saved before the game closed");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        pool.close();
+    }
+
+    /**
+     * Creates or upgrades the schema the first time a connection is used.
+     */
+    private void ensureSchema(ConnectionPool.PooledConnection connection) throws SQLException {
+        if (!schemaReady) {
+            SchemaManager.migrate(connection.getConnection());
+            schemaReady = true;
+        }
+    }
+
+    private void insertScore(String playerName, int score) {
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            ensureSchema(connection);
+            PreparedStatement preparedStatement = connection.prepare(INSERT_SCORE);
+            preparedStatement.setInt(1, playerId(connection, playerName));
             preparedStatement.setInt(2, score);
             preparedStatement.executeUpdate();
             System.out.println("Score saved successfully!");
@@ -31,24 +221,42 @@ public class DatabaseManager {
     }
 
     /**
-     * Fetch the top 10 scores from the database.
-     *
-     * @return A list of formatted top scores as strings.
+     * Returns the id of the player, adding the player first if the name is new.
+     * Only the background thread adds players, so nobody can add the same name in between.
      */
-    public List<String> getTopScores() {
-        String query = "SELECT player_name, score, timestamp FROM Highscores ORDER BY score DESC LIMIT 10";
-        List<String> topScores = new ArrayList<>();
-
-        try (Connection connection = DriverManager.getConnection(DB_URL, USERNAME, PASSWORD);
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery(query)) {
-
-            while (resultSet.next()) {
-                String scoreEntry = String.format("%s - %d points (%s)",
-                        resultSet.getString("player_name"),
-                        resultSet.getInt("score"),
-                        resultSet.getString("timestamp"));
-                topScores.add(scoreEntry);
+    private int playerId(ConnectionPool.PooledConnection connection, String playerName) throws SQLException {
+        PreparedStatement selectPlayer = connection.prepare(SELECT_PLAYER_ID);
+        selectPlayer.setString(1, playerName);
+        try (ResultSet resultSet = selectPlayer.executeQuery()) {
+            if (resultSet.next()) {
+                return resultSet.getInt("id");
+            }
+        }
+
+        PreparedStatement insertPlayer = connection.prepare(INSERT_PLAYER);
+        insertPlayer.setString(1, playerName);
+        insertPlayer.executeUpdate();
+        try (ResultSet resultSet = selectPlayer.executeQuery()) {
+            if (!resultSet.next()) {
+                throw new SQLException("Player " + playerName + " was not added");
+            }
+            return resultSet.getInt("id");
+        }
+    }
+
+    private List<ScoreEntry> selectTopScores(int limit) {
+        List<ScoreEntry> topScores = new ArrayList<>();
+
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            ensureSchema(connection);
+            PreparedStatement preparedStatement = connection.prepare(SELECT_TOP_SCORES);
+            preparedStatement.setInt(1, limit);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Timestamp timestamp = resultSet.getTimestamp("created_at");
+                    LocalDateTime time = timestamp == null ? null : timestamp.toLocalDateTime();
+                    topScores.add(new ScoreEntry(resultSet.getString("player_name"), resultSet.getInt("score"), time));
+                }
             }
 
         } catch (SQLException e) {
@@ -58,14 +266,16 @@ public class DatabaseManager {
         return topScores;
     }
 
-    /**
-     * Test the database connection.
-     */
-    public void testConnection() {
-        try (Connection connection = DriverManager.getConnection(DB_URL, USERNAME, PASSWORD)) {
-            System.out.println("Database connected successfully!");
+    private int deleteScoresOutside(int keepOverall, int keepPerPlayer) {
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            ensureSchema(connection);
+            PreparedStatement preparedStatement = connection.prepare(PRUNE_SCORES);
+            preparedStatement.setInt(1, keepOverall);
+            preparedStatement.setInt(2, keepPerPlayer);
+            return preparedStatement.executeUpdate();
+
         } catch (SQLException e) {
-            throw new RuntimeException("Database connection failed", e);
+            throw new RuntimeException("Failed to prune scores", e);
         }
     }
 }
@@ -6,6 +6,8 @@ import java.awt.*;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The GameLogic class handles the core logic of the Snake game,
@@ -17,17 +19,18 @@ public class GameLogic implements Serializable {
     private final int SCREEN_HEIGHT;
     private final int UNIT_SIZE;
 
-    private final int[] x;
-    private final int[] y;
-    private int bodyParts;
+    private final SnakeBody body;
     private int applesEaten;
     private char direction;
     private boolean running;
 
     private final Random random;
     private final LevelGenerator levelGenerator;
+    private final OccupancyGrid occupancy;
     private final AppleManager appleManager;
     private final DatabaseManager databaseManager;
+    private final Leaderboard leaderboard;
+    private final ScorePruner scorePruner;
 
     /**
      * Constructs the GameLogic object using the provided configuration.
@@ -39,50 +42,84 @@ public class GameLogic implements Serializable {
         this.SCREEN_HEIGHT = config.getScreenHeight();
         this.UNIT_SIZE = config.getUnitSize();
 
-        this.x = new int[(SCREEN_WIDTH * SCREEN_HEIGHT) / (UNIT_SIZE * UNIT_SIZE)];
-        this.y = new int[(SCREEN_WIDTH * SCREEN_HEIGHT) / (UNIT_SIZE * UNIT_SIZE)];
-        this.bodyParts = 2;
+        this.body = new SnakeBody((SCREEN_WIDTH * SCREEN_HEIGHT) / (UNIT_SIZE * UNIT_SIZE));
         this.direction = 'R'; // Initial direction is right
         this.running = true;
         this.random = new Random();
 
         this.levelGenerator = new LevelGenerator(config);
+        this.occupancy = new OccupancyGrid(SCREEN_WIDTH / UNIT_SIZE, SCREEN_HEIGHT / UNIT_SIZE);
         this.appleManager = new AppleManager(SCREEN_WIDTH, SCREEN_HEIGHT, UNIT_SIZE);
         this.databaseManager = new DatabaseManager();
+        this.leaderboard = new Leaderboard(databaseManager);
+        this.scorePruner = new ScorePruner(databaseManager);
     }
 
     /**
      * Starts the game by initializing the snake, level, and apple.
      */
     public void startGame() {
-        bodyParts = 2;
         applesEaten = 0;
         direction = 'R';
         running = true;
 
-        for (int i = 0; i < bodyParts; i++) {
-            x[i] = SCREEN_WIDTH / 2 - (i * UNIT_SIZE);
-            y[i] = SCREEN_HEIGHT / 2;
+        body.clear();
+        for (int i = 0; i < 2; i++) {
+            body.addTail(SCREEN_WIDTH / 2 - (i * UNIT_SIZE), SCREEN_HEIGHT / 2);
         }
 
         levelGenerator.generateLevel();
-        appleManager.generateNewApple(levelGenerator.getObstacles(), x, y, bodyParts);
+        rebuildOccupancy();
+        appleManager.generateNewApple(occupancy, body.getHeadX(), body.getHeadY());
+    }
+
+    /**
+     * Restores a saved game: the snake, the score, the direction and the obstacles of the level.
+     *
+     * @param save the saved game
+     */
+    public void restore(PlayerSave save) {
+        applesEaten = save.getApplesEaten();
+        direction = save.getDirection();
+        running = true;
+        body.load(save.getX(), save.getY(), save.getBodyParts());
+
+        levelGenerator.loadLevel(save.getObstacles());
+        rebuildOccupancy();
+        appleManager.generateNewApple(occupancy, body.getHeadX(), body.getHeadY());
+    }
+
+    /**
+     * Fills the occupancy grid from scratch with the obstacles of the level and the snake's body behind the head.
+     * The head itself is not part of the grid, so a collision is simply the head entering a taken cell.
+     */
+    private void rebuildOccupancy() {
+        occupancy.clear();
+        for (Point obstacle : levelGenerator.getObstacles()) {
+            occupancy.addObstacle(obstacle.x, obstacle.y);
+        }
+        for (int i = 1; i < body.size(); i++) {
+            occupancy.occupy(column(body.getX(i)), row(body.getY(i)));
+        }
     }
 
     /**
      * Moves the snake in the current direction.
+     * The old head becomes the first body segment and the tail leaves its cell, which updates the body and the
+     * occupancy grid in constant time.
      */
     public void move() {
-        for (int i = bodyParts; i > 0; i--) {
-            x[i] = x[i - 1];
-            y[i] = y[i - 1];
-        }
+        int headX = body.getHeadX();
+        int headY = body.getHeadY();
+        occupancy.occupy(column(headX), row(headY));
+        occupancy.release(column(body.getX(body.size() - 1)), row(body.getY(body.size() - 1)));
         switch (direction) {
-            case 'U' -> y[0] -= UNIT_SIZE;
-            case 'D' -> y[0] += UNIT_SIZE;
-            case 'L' -> x[0] -= UNIT_SIZE;
-            case 'R' -> x[0] += UNIT_SIZE;
+            case 'U' -> headY -= UNIT_SIZE;
+            case 'D' -> headY += UNIT_SIZE;
+            case 'L' -> headX -= UNIT_SIZE;
+            case 'R' -> headX += UNIT_SIZE;
         }
+        body.advance(headX, headY);
     }
 
     /**
@@ -91,10 +128,12 @@ public class GameLogic implements Serializable {
      * @return true if the snake ate the apple, false otherwise
      */
     public boolean checkApple() {
-        if (x[0] == appleManager.getAppleX() && y[0] == appleManager.getAppleY()) {
-            bodyParts++;
+        if (body.getHeadX() == appleManager.getAppleX() && body.getHeadY() == appleManager.getAppleY()) {
+            // The new tail segment is the cell the tail has just left.
+            occupancy.occupy(column(body.getX(body.size())), row(body.getY(body.size())));
+            body.grow();
             applesEaten++;
-            appleManager.generateNewApple(levelGenerator.getObstacles(), x, y, bodyParts);
+            appleManager.generateNewApple(occupancy, body.getHeadX(), body.getHeadY());
             return true;
         }
         return false;
@@ -102,65 +141,95 @@ public class GameLogic implements Serializable {
 
     /**
      * Checks for collisions with the snake's body, walls, or obstacles.
+     * Each check is a single lookup in the occupancy grid.
      *
      * @return true if a collision occurred, false otherwise
      */
     public boolean checkCollisions() {
-        // Check collision with itself
-        for (int i = bodyParts; i > 0; i--) {
-            if (x[0] == x[i] && y[0] == y[i]) {
-                running = false;
-                return true;
-            }
-        }
-
         // Check collision with walls
-        if (x[0] < 0 || x[0] >= SCREEN_WIDTH || y[0] < 0 || y[0] >= SCREEN_HEIGHT) {
+        int headX = body.getHeadX();
+        int headY = body.getHeadY();
+        if (headX < 0 || headX >= SCREEN_WIDTH || headY < 0 || headY >= SCREEN_HEIGHT) {
             running = false;
             return true;
         }
 
-        // Check collision with obstacles
-        for (Point obstacle : levelGenerator.getObstacles()) {
-            if (x[0] == obstacle.x * UNIT_SIZE && y[0] == obstacle.y * UNIT_SIZE) {
-                running = false;
-                return true;
-            }
+        // Check collision with itself or with obstacles
+        int headColumn = column(headX);
+        int headRow = row(headY);
+        if (occupancy.isSnake(headColumn, headRow) || occupancy.isObstacle(headColumn, headRow)) {
+            running = false;
+            return true;
         }
 
         return false;
     }
 
+    private int column(int pixelX) {
+        return Math.floorDiv(pixelX, UNIT_SIZE);
+    }
+
+    private int row(int pixelY) {
+        return Math.floorDiv(pixelY, UNIT_SIZE);
+    }
+
     /**
-     * Saves the player's score to the database.
+     * Adds the player's score to the leaderboard, which saves it to the database in the background.
      *
      * @param playerName the name of the player
      */
     public void saveScoreToDatabase(String playerName) {
-        databaseManager.saveScore(playerName, applesEaten);
+        leaderboard.submit(playerName, applesEaten);
     }
 
     /**
-     * Fetches the top scores from the database.
+     * Starts loading the top scores from the database, so the leaderboard is ready when the first game ends.
+     */
+    public void loadLeaderboard() {
+        leaderboard.load();
+    }
+
+    /**
+     * Fetches the top scores from the leaderboard, waiting for them to be loaded from the database the first time.
      *
      * @return a list of top scores as strings
      */
     public List<String> getTopScoresFromDatabase() {
-        return databaseManager.getTopScores();
+        return leaderboard.getTopScoresAsync().join();
     }
 
-    // Getters and setters
+    /**
+     * Fetches the top scores from the leaderboard once they are loaded from the database.
+     *
+     * @return a future list of top scores as strings
+     */
+    public CompletableFuture<List<String>> getTopScoresFromDatabaseAsync() {
+        return leaderboard.getTopScoresAsync();
+    }
 
-    public int[] getX() {
-        return x;
+    /**
+     * Starts deleting, in the background, the old scores that can no longer reach any leaderboard.
+     */
+    public void startScorePruning() {
+        scorePruner.start(ScorePruner.DEFAULT_PERIOD_MINUTES, TimeUnit.MINUTES);
     }
 
-    public int[] getY() {
-        return y;
+    /**
+     * Writes the scores that are still queued and closes the database connections.
+     */
+    public void closeDatabase() {
+        scorePruner.close();
+        databaseManager.close();
+    }
+
+    // Getters and setters
+
+    public SnakeBody getBody() {
+        return body;
     }
 
     public int getBodyParts() {
-        return bodyParts;
+        return body.size();
     }
 
     public int getApplesEaten() {
@@ -190,4 +259,16 @@ public class GameLogic implements Serializable {
     public List<Point> getObstacles() {
         return levelGenerator.getObstacles();
     }
+
+    public int getLevelVersion() {
+        return levelGenerator.getLevelVersion();
+    }
+
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
 }
@@ -0,0 +1,188 @@
+package game.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps the best scores in memory, so showing the leaderboard does not touch the database.
+ * The entries live in a bounded min-heap whose root is the worst entry, so a new score is added in O(log K).
+ * The top scores are loaded from the database once; new scores are added to the heap right away and
+ * written to the database in the background.
+ * Loads and writes share the database's single background thread, so a load sees exactly the scores
+ * submitted before it was started.
+ */
+public class Leaderboard {
+
+    /**
+     * The number of entries kept when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private final DatabaseManager databaseManager;
+    private final int capacity;
+
+    /**
+     * The best entries, the worst of them at the root.
+     */
+    private final PriorityQueue<ScoreEntry> entries;
+
+    /**
+     * The entries from best to worst, rebuilt on the first read after a change.
+     */
+    private List<ScoreEntry> ranking;
+
+    /**
+     * Completes once the scores in the database have been loaded; null until {@link #load()} is called.
+     */
+    private CompletableFuture<Void> loaded;
+
+    /**
+     * The scores submitted since the current load was started, which the loaded scores do not contain yet;
+     * null when no load is in progress.
+     */
+    private List<ScoreEntry> submittedDuringLoad;
+
+    /**
+     * Constructs an empty leaderboard with the default capacity.
+     *
+     * @param databaseManager the database the scores are loaded from and saved to
+     */
+    public Leaderboard(DatabaseManager databaseManager) {
+        this(databaseManager, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty leaderboard. Nothing is loaded until {@link #load()} is called.
+     *
+     * @param databaseManager the database the scores are loaded from and saved to
+     * @param capacity        the number of entries to keep
+     */
+    public Leaderboard(DatabaseManager databaseManager, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.databaseManager = databaseManager;
+        this.capacity = capacity;
+        this.entries = new PriorityQueue<>(capacity + 1, ScoreEntry.RANKING.reversed());
+        this.ranking = List.of();
+    }
+
+    /**
+     * Loads the top scores from the database, unless they are already loaded or being loaded.
+     * Scores submitted before the load completes are kept and merged with the loaded ones.
+     * If the previous load failed, the scores are loaded again.
+     *
+     * @return a future that completes when the scores are loaded, or completes exceptionally if loading failed
+     */
+    public synchronized CompletableFuture<Void> load() {
+        if (loaded == null || loaded.isCompletedExceptionally()) {
+            submittedDuringLoad = new ArrayList<>();
+            loaded = databaseManager.getTopEntriesAsync(capacity).thenAccept(this::replaceEntries)
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            stopCollectingSubmitted();
+                        }
+                    });
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds a new score to the leaderboard and saves it to the database in the background.
+     *
+     * @param playerName the name of the player
+     * @param score      the number of apples the player ate
+     */
+    public synchronized void submit(String playerName, int score) {
+        ScoreEntry entry = new ScoreEntry(playerName, score, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        offer(entry);
+        if (submittedDuringLoad != null) {
+            submittedDuringLoad.add(entry);
+        }
+        databaseManager.saveScore(playerName, score);
+    }
+
+    /**
+     * Returns the entries from best to worst, from memory.
+     *
+     * @return an unmodifiable list of at most {@code capacity} entries
+     */
+    public synchronized List<ScoreEntry> getEntries() {
+        if (ranking == null) {
+            List<ScoreEntry> sorted = new ArrayList<>(entries);
+            sorted.sort(ScoreEntry.RANKING);
+            ranking = List.copyOf(sorted);
+        }
+        return ranking;
+    }
+
+    /**
+     * Returns the entries from best to worst, formatted for display.
+     *
+     * @return a list of formatted top scores
+     */
+    public List<String> getTopScores() {
+        List<String> topScores = new ArrayList<>();
+        for (ScoreEntry entry : getEntries()) {
+            topScores.add(entry.toString());
+        }
+        return topScores;
+    }
+
+    /**
+     * Returns the formatted top scores once the scores in the database have been loaded.
+     * If they cannot be loaded, the scores added since the game started are returned.
+     *
+     * @return a future list of formatted top scores
+     */
+    public CompletableFuture<List<String>> getTopScoresAsync() {
+        return load().handle((ignored, error) -> {
+            if (error != null) {
+                System.err.println("Failed to load the leaderboard: " + error.getMessage());
+            }
+            return getTopScores();
+        });
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Replaces the entries with the loaded ones and the ones submitted while they were being loaded.
+     * The scores submitted before the load started are already part of the loaded ones.
+     */
+    private synchronized void replaceEntries(List<ScoreEntry> loadedEntries) {
+        entries.clear();
+        loadedEntries.forEach(this::offer);
+        submittedDuringLoad.forEach(this::offer);
+        submittedDuringLoad = null;
+        ranking = null;
+    }
+
+    /**
+     * Stops keeping the submitted scores after a failed load; they are already in the heap.
+     */
+    private synchronized void stopCollectingSubmitted() {
+        submittedDuringLoad = null;
+    }
+
+    /**
+     * Adds an entry if there is room or if it is better than the worst one, which is then dropped.
+     */
+    private synchronized void offer(ScoreEntry entry) {
+        if (entries.size() < capacity) {
+            entries.add(entry);
+        } else if (ScoreEntry.RANKING.compare(entry, entries.peek()) < 0) {
+            entries.poll();
+            entries.add(entry);
+        } else {
+            return;
+        }
+        ranking = null;
+    }
+}
@@ -45,6 +45,11 @@ public class LevelGenerator implements Serializable {
      */
     private final Random random;
 
+    /**
+     * Counts the levels generated or loaded, so a renderer can tell when its cached obstacles are out of date.
+     */
+    private int levelVersion;
+
     /**
      * Constructs a LevelGenerator with the specified game configuration.
      *
@@ -78,6 +83,25 @@ public class LevelGenerator implements Serializable {
             obstacles.add(new Point(obstacleX, obstacleY));
             grid[obstacleX][obstacleY] = true;
         }
+        levelVersion++;
+    }
+
+    /**
+     * Replaces the current level with the given obstacles, for example from a saved game.
+     *
+     * @param levelObstacles the obstacle locations in grid units.
+     */
+    public void loadLevel(List<Point> levelObstacles) {
+        obstacles.clear();
+        for (boolean[] row : grid) {
+            Arrays.fill(row, false);
+        }
+
+        for (Point obstacle : levelObstacles) {
+            obstacles.add(new Point(obstacle));
+            grid[obstacle.x][obstacle.y] = true;
+        }
+        levelVersion++;
     }
 
     /**
@@ -99,4 +123,13 @@ public class LevelGenerator implements Serializable {
     public List<Point> getObstacles() {
         return obstacles;
     }
+
+    /**
+     * Returns a number that changes every time a level is generated or loaded.
+     *
+     * @return the version of the current level.
+     */
+    public int getLevelVersion() {
+        return levelVersion;
+    }
 }
@@ -0,0 +1,219 @@
+package game.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tracks which grid cells are taken by obstacles or by the snake's body, and which cells are free.
+ * The grid is updated incrementally as the snake moves, so checking a cell is O(1), and the free cells are kept
+ * in a dense array with a reverse index, so a uniformly random free cell can be picked in O(1).
+ * Cells are addressed by their column and row in grid units; cells outside the grid are ignored.
+ */
+public class OccupancyGrid implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of columns of the grid.
+     */
+    private final int columns;
+
+    /**
+     * The number of rows of the grid.
+     */
+    private final int rows;
+
+    /**
+     * The number of snake segments on each cell.
+     */
+    private final byte[] segments;
+
+    /**
+     * Whether each cell contains an obstacle.
+     */
+    private final boolean[] obstacles;
+
+    /**
+     * The free cells, densely packed in the first {@code freeCount} entries.
+     */
+    private final int[] freeCells;
+
+    /**
+     * The position of each cell in {@code freeCells}, or -1 if the cell is taken.
+     */
+    private final int[] freeIndex;
+
+    /**
+     * The number of free cells.
+     */
+    private int freeCount;
+
+    /**
+     * Constructs an empty grid.
+     *
+     * @param columns the number of columns
+     * @param rows    the number of rows
+     */
+    public OccupancyGrid(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.segments = new byte[columns * rows];
+        this.obstacles = new boolean[columns * rows];
+        this.freeCells = new int[columns * rows];
+        this.freeIndex = new int[columns * rows];
+        clear();
+    }
+
+    /**
+     * Removes every obstacle and snake segment, so every cell is free again.
+     */
+    public void clear() {
+        Arrays.fill(segments, (byte) 0);
+        Arrays.fill(obstacles, false);
+        for (int cell = 0; cell < freeCells.length; cell++) {
+            freeCells[cell] = cell;
+            freeIndex[cell] = cell;
+        }
+        freeCount = freeCells.length;
+    }
+
+    /**
+     * Marks a cell as an obstacle.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     */
+    public void addObstacle(int column, int row) {
+        if (isInside(column, row)) {
+            int cell = cellOf(column, row);
+            obstacles[cell] = true;
+            markTaken(cell);
+        }
+    }
+
+    /**
+     * Adds a snake segment to a cell.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     */
+    public void occupy(int column, int row) {
+        if (isInside(column, row)) {
+            int cell = cellOf(column, row);
+            segments[cell]++;
+            markTaken(cell);
+        }
+    }
+
+    /**
+     * Removes a snake segment from a cell, which becomes free again if nothing else is on it.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     */
+    public void release(int column, int row) {
+        if (isInside(column, row)) {
+            int cell = cellOf(column, row);
+            if (segments[cell] > 0 && --segments[cell] == 0 && !obstacles[cell]) {
+                markFree(cell);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a cell contains a snake segment.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     * @return {@code true} if the cell is inside the grid and taken by the snake
+     */
+    public boolean isSnake(int column, int row) {
+        return isInside(column, row) && segments[cellOf(column, row)] > 0;
+    }
+
+    /**
+     * Checks whether a cell contains an obstacle.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     * @return {@code true} if the cell is inside the grid and contains an obstacle
+     */
+    public boolean isObstacle(int column, int row) {
+        return isInside(column, row) && obstacles[cellOf(column, row)];
+    }
+
+    /**
+     * Checks whether a cell is part of the grid.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     * @return {@code true} if the cell is inside the grid
+     */
+    public boolean isInside(int column, int row) {
+        return column >= 0 && column < columns && row >= 0 && row < rows;
+    }
+
+    /**
+     * Picks a uniformly random free cell other than the excluded one.
+     *
+     * @param random         the random number generator to use
+     * @param excludedColumn the column of a free cell that must not be picked, for example the snake's head
+     * @param excludedRow    the row of that cell
+     * @return the picked cell as {@code row * columns + column}, or -1 if there is no such cell
+     */
+    public int randomFreeCell(Random random, int excludedColumn, int excludedRow) {
+        int excluded = isInside(excludedColumn, excludedRow) ? freeIndex[cellOf(excludedColumn, excludedRow)] : -1;
+        if (excluded < 0) {
+            return freeCount == 0 ? -1 : freeCells[random.nextInt(freeCount)];
+        }
+        if (freeCount <= 1) {
+            return -1;
+        }
+        int picked = random.nextInt(freeCount - 1);
+        return freeCells[picked == excluded ? freeCount - 1 : picked];
+    }
+
+    /**
+     * Returns the number of cells without obstacles and snake segments.
+     *
+     * @return the number of free cells
+     */
+    public int getFreeCellCount() {
+        return freeCount;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private int cellOf(int column, int row) {
+        return row * columns + column;
+    }
+
+    /**
+     * Removes a cell from the free cells by moving the last free cell into its place.
+     */
+    private void markTaken(int cell) {
+        int index = freeIndex[cell];
+        if (index >= 0) {
+            int last = freeCells[--freeCount];
+            freeCells[index] = last;
+            freeIndex[last] = index;
+            freeIndex[cell] = -1;
+        }
+    }
+
+    /**
+     * Appends a cell to the free cells.
+     */
+    private void markFree(int cell) {
+        if (freeIndex[cell] < 0) {
+            freeCells[freeCount] = cell;
+            freeIndex[cell] = freeCount++;
+        }
+    }
+}
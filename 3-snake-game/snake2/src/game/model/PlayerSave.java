@@ -72,6 +72,25 @@ public class PlayerSave implements Serializable {
         this.obstacles = new ArrayList<>(obstacles);
     }
 
+    /**
+     * Constructs a PlayerSave instance from the snake's current body.
+     *
+     * @param playerName  the name of the player.
+     * @param body        the player's body, from the head to the tail.
+     * @param applesEaten the number of apples the player has eaten.
+     * @param direction   the direction the player is moving in.
+     * @param obstacles   the list of obstacles in the level.
+     */
+    public PlayerSave(String playerName, SnakeBody body, int applesEaten, char direction, List<Point> obstacles) {
+        this.playerName = playerName;
+        this.x = body.copyX();
+        this.y = body.copyY();
+        this.bodyParts = body.size();
+        this.applesEaten = applesEaten;
+        this.direction = direction;
+        this.obstacles = new ArrayList<>(obstacles);
+    }
+
     /**
      * Retrieves the player's name.
      *
@@ -0,0 +1,176 @@
+package game.model;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Creates and upgrades the high-score schema shared by the Snake game and the Databases project.
+ * Every upgrade has a version number; the versions already applied are recorded in the schema_version table,
+ * so each upgrade runs exactly once per database.
+ * An upgrade and its version record are committed together. MySQL commits table and index changes at once,
+ * so every step of an upgrade is also skipped if it is already done, and an upgrade that failed halfway can run again.
+ *
+ * Version 1 creates the players table and the scores table, with an index on (score DESC, created_at) for the
+ * overall leaderboard and one on (player_id, score DESC, created_at) for the per-player leaderboards.
+ * Version 2 copies the scores of the old Highscores table, if there is one.
+ * The same schema is created by highscores_db.sql in the Databases project.
+ */
+public final class SchemaManager {
+
+    /**
+     * The version of the schema this code expects.
+     */
+    public static final int CURRENT_VERSION = 2;
+
+    private static final String CREATE_SCHEMA_VERSION = "CREATE TABLE IF NOT EXISTS schema_version ("
+            + "version INT NOT NULL PRIMARY KEY, "
+            + "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+    private static final String SELECT_VERSION = "SELECT MAX(version) FROM schema_version";
+    private static final String INSERT_VERSION = "INSERT INTO schema_version (version) VALUES (?)";
+
+    // AUTO_INCREMENT is the only MySQL syntax of the schema: MySQL has no standard identity columns,
+    // and embedded databases such as H2 accept it in their MySQL mode
+    private static final String CREATE_PLAYERS = "CREATE TABLE IF NOT EXISTS players ("
+            + "id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+            + "name VARCHAR(255) NOT NULL UNIQUE)";
+    private static final String CREATE_SCORES = "CREATE TABLE IF NOT EXISTS scores ("
+            + "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+            + "player_id INT NOT NULL, "
+            + "score INT NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+            + "FOREIGN KEY (player_id) REFERENCES players (id))";
+    // MySQL has no CREATE INDEX IF NOT EXISTS, so the indexes are looked up first
+    private static final String SCORES_TABLE = "scores";
+    private static final String RANK_INDEX = "idx_scores_rank";
+    private static final String CREATE_RANK_INDEX = "CREATE INDEX idx_scores_rank ON scores (score DESC, created_at)";
+    private static final String PLAYER_RANK_INDEX = "idx_scores_player_rank";
+    private static final String CREATE_PLAYER_RANK_INDEX =
+            "CREATE INDEX idx_scores_player_rank ON scores (player_id, score DESC, created_at)";
+
+    private static final String LEGACY_TABLE = "Highscores";
+    private static final String COPY_LEGACY_PLAYERS = "INSERT INTO players (name) "
+            + "SELECT DISTINCT player_name FROM Highscores "
+            + "WHERE player_name IS NOT NULL AND player_name NOT IN (SELECT name FROM players)";
+    private static final String COPY_LEGACY_SCORES = "INSERT INTO scores (player_id, score, created_at) "
+            + "SELECT p.id, h.score, COALESCE(h.timestamp, CURRENT_TIMESTAMP) "
+            + "FROM Highscores h JOIN players p ON p.name = h.player_name";
+
+    private SchemaManager() {
+    }
+
+    /**
+     * Applies every upgrade the database does not have yet.
+     *
+     * @param connection a connection to the database
+     * @return the version of the schema before the upgrade, 0 for an empty database
+     * @throws SQLException if an upgrade fails; the upgrades applied before it stay recorded
+     */
+    public static int migrate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(CREATE_SCHEMA_VERSION);
+        }
+        int version = currentVersion(connection);
+        for (int next = version + 1; next <= CURRENT_VERSION; next++) {
+            applyAndRecord(connection, next);
+        }
+        return version;
+    }
+
+    /**
+     * Returns the newest version recorded in the database.
+     *
+     * @param connection a connection to the database
+     * @return the version, 0 if no upgrade was applied yet
+     * @throws SQLException if the version cannot be read
+     */
+    public static int currentVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_VERSION)) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Applies one upgrade and records its version in a single transaction.
+     */
+    private static void applyAndRecord(Connection connection, int version) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            apply(connection, version);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_VERSION)) {
+                statement.setInt(1, version);
+                statement.executeUpdate();
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void apply(Connection connection, int version) throws SQLException {
+        switch (version) {
+            case 1 -> {
+                execute(connection, CREATE_PLAYERS, CREATE_SCORES);
+                if (!indexExists(connection, SCORES_TABLE, RANK_INDEX)) {
+                    execute(connection, CREATE_RANK_INDEX);
+                }
+                if (!indexExists(connection, SCORES_TABLE, PLAYER_RANK_INDEX)) {
+                    execute(connection, CREATE_PLAYER_RANK_INDEX);
+                }
+            }
+            case 2 -> {
+                if (tableExists(connection, LEGACY_TABLE)) {
+                    execute(connection, COPY_LEGACY_PLAYERS, COPY_LEGACY_SCORES);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown schema version: " + version);
+        }
+    }
+
+    private static void execute(Connection connection, String... statements) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.executeUpdate(sql);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a table exists, ignoring the case of its name, which depends on the database's settings.
+     */
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if (table.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a table has an index, ignoring the case of the index name.
+     */
+    private static boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String storedTable = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, storedTable, false, true)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
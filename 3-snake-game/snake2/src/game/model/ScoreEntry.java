@@ -0,0 +1,59 @@
+package game.model;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+
+/**
+ * A single high score: who reached it, how many apples they ate and when.
+ */
+public final class ScoreEntry {
+
+    /**
+     * Orders the entries from best to worst: higher scores first, and of equal scores the one reached earlier first.
+     */
+    public static final Comparator<ScoreEntry> RANKING = Comparator.comparingInt(ScoreEntry::getScore).reversed()
+            .thenComparing(ScoreEntry::getTimestamp, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final String playerName;
+    private final int score;
+    private final LocalDateTime timestamp;
+
+    /**
+     * Constructs a ScoreEntry.
+     *
+     * @param playerName the name of the player
+     * @param score      the number of apples the player ate
+     * @param timestamp  when the score was reached, or null if it is not known
+     */
+    public ScoreEntry(String playerName, int score, LocalDateTime timestamp) {
+        this.playerName = playerName;
+        this.score = score;
+        this.timestamp = timestamp;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Formats the entry the way the leaderboard shows it.
+     *
+     * @return the player's name, the score and the timestamp
+     */
+    @Override
+    public String toString() {
+        return String.format("%s - %d points (%s)", playerName, score,
+                timestamp == null ? null : TIMESTAMP_FORMAT.format(timestamp));
+    }
+}
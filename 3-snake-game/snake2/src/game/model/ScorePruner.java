@@ -0,0 +1,94 @@
+package game.model;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically deletes the scores that can no longer appear on any leaderboard, so the scores table,
+ * and with it every leaderboard query, stays small however many games are played.
+ * A score is kept if it is among the best scores overall or among the best scores of its player.
+ */
+public class ScorePruner implements AutoCloseable {
+
+    /**
+     * The number of best scores kept overall.
+     */
+    public static final int DEFAULT_KEEP_OVERALL = 100;
+
+    /**
+     * The number of best scores kept for every player.
+     */
+    public static final int DEFAULT_KEEP_PER_PLAYER = 10;
+
+    /**
+     * The number of minutes between two prunings.
+     */
+    public static final long DEFAULT_PERIOD_MINUTES = 10;
+
+    private final DatabaseManager databaseManager;
+    private final int keepOverall;
+    private final int keepPerPlayer;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a pruner with the default limits. Nothing is scheduled until {@link #start(long, TimeUnit)} is called.
+     *
+     * @param databaseManager the database to prune
+     */
+    public ScorePruner(DatabaseManager databaseManager) {
+        this(databaseManager, DEFAULT_KEEP_OVERALL, DEFAULT_KEEP_PER_PLAYER);
+    }
+
+    /**
+     * Constructs a pruner. Nothing is scheduled until {@link #start(long, TimeUnit)} is called.
+     *
+     * @param databaseManager the database to prune
+     * @param keepOverall     the number of best scores kept overall
+     * @param keepPerPlayer   the number of best scores kept for every player
+     */
+    public ScorePruner(DatabaseManager databaseManager, int keepOverall, int keepPerPlayer) {
+        if (keepOverall <= 0 || keepPerPlayer <= 0) {
+            throw new IllegalArgumentException("The number of kept scores must be positive");
+        }
+        this.databaseManager = databaseManager;
+        this.keepOverall = keepOverall;
+        this.keepPerPlayer = keepPerPlayer;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snake-score-pruner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Prunes the scores now and then again after every period.
+     *
+     * @param period the time between two prunings
+     * @param unit   the unit of the period
+     */
+    public void start(long period, TimeUnit unit) {
+        scheduler.scheduleAtFixedRate(this::prune, 0, period, unit);
+    }
+
+    /**
+     * Prunes the scores once. The deletion runs on the database's background thread, after the scores queued before.
+     */
+    public void prune() {
+        databaseManager.pruneScoresAsync(keepOverall, keepPerPlayer).whenComplete((deleted, error) -> {
+            if (error != null) {
+                System.err.println("Failed to prune scores: " + error.getMessage());
+            } else if (deleted > 0) {
+                System.out.println("Pruned " + deleted + " scores");
+            }
+        });
+    }
+
+    /**
+     * Stops scheduling further prunings.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,216 @@
+package game.model;
+
+import java.io.Serializable;
+
+/**
+ * Stores the positions of the snake's segments in a circular buffer.
+ * Segment 0 is the head and segment {@code size() - 1} is the tail. Moving the snake writes the new head in front of
+ * the old one and lets the tail fall off, and growing only extends the length, so both take constant time no matter
+ * how long the snake is.
+ * The slot right behind the tail keeps the cell the tail has just left, which is where the snake grows into.
+ */
+public class SnakeBody implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Receives the segments of the snake, from the head to the tail.
+     */
+    @FunctionalInterface
+    public interface SegmentConsumer {
+
+        /**
+         * Called once for every segment.
+         *
+         * @param index the index of the segment, 0 for the head
+         * @param x     the x-coordinate of the segment in pixels
+         * @param y     the y-coordinate of the segment in pixels
+         */
+        void accept(int index, int x, int y);
+    }
+
+    /**
+     * The x-coordinates of the segments, in ring order starting at {@code head}.
+     */
+    private final int[] x;
+
+    /**
+     * The y-coordinates of the segments, in ring order starting at {@code head}.
+     */
+    private final int[] y;
+
+    /**
+     * The position of the head in the arrays.
+     */
+    private int head;
+
+    /**
+     * The number of segments.
+     */
+    private int length;
+
+    /**
+     * Constructs an empty body.
+     *
+     * @param maxSegments the largest number of segments the snake can have, usually the number of cells of the grid
+     */
+    public SnakeBody(int maxSegments) {
+        // One extra slot keeps the cell the tail has just left.
+        this.x = new int[maxSegments + 1];
+        this.y = new int[maxSegments + 1];
+    }
+
+    /**
+     * Removes every segment.
+     */
+    public void clear() {
+        head = 0;
+        length = 0;
+    }
+
+    /**
+     * Replaces the body with the given segments, starting with the head.
+     * Entries after the first {@code length} ones are kept as the cells the tail has left before.
+     *
+     * @param xs     the x-coordinates of the segments
+     * @param ys     the y-coordinates of the segments
+     * @param length the number of segments
+     */
+    public void load(int[] xs, int[] ys, int length) {
+        if (length < 0 || length >= x.length) {
+            throw new IllegalArgumentException("A body of " + length + " segments does not fit into " + (x.length - 1) + " cells");
+        }
+        int copied = Math.min(x.length, Math.min(xs.length, ys.length));
+        System.arraycopy(xs, 0, x, 0, copied);
+        System.arraycopy(ys, 0, y, 0, copied);
+        this.head = 0;
+        this.length = length;
+    }
+
+    /**
+     * Adds a segment behind the tail.
+     *
+     * @param segmentX the x-coordinate of the new tail
+     * @param segmentY the y-coordinate of the new tail
+     */
+    public void addTail(int segmentX, int segmentY) {
+        grow();
+        setSegment(length - 1, segmentX, segmentY);
+    }
+
+    /**
+     * Moves the snake: the given cell becomes the new head and the tail leaves its cell.
+     *
+     * @param headX the x-coordinate of the new head
+     * @param headY the y-coordinate of the new head
+     */
+    public void advance(int headX, int headY) {
+        head = head == 0 ? x.length - 1 : head - 1;
+        x[head] = headX;
+        y[head] = headY;
+    }
+
+    /**
+     * Makes the snake one segment longer by taking back the cell the tail has just left.
+     */
+    public void grow() {
+        if (length == x.length - 1) {
+            throw new IllegalStateException("The snake already fills all " + length + " cells");
+        }
+        length++;
+    }
+
+    /**
+     * Moves a single segment.
+     *
+     * @param index    the index of the segment, 0 for the head; {@code size()} is the cell the tail has just left
+     * @param segmentX the new x-coordinate
+     * @param segmentY the new y-coordinate
+     */
+    public void setSegment(int index, int segmentX, int segmentY) {
+        int slot = slot(index);
+        x[slot] = segmentX;
+        y[slot] = segmentY;
+    }
+
+    /**
+     * Returns the x-coordinate of a segment.
+     *
+     * @param index the index of the segment, 0 for the head; {@code size()} is the cell the tail has just left
+     * @return the x-coordinate in pixels
+     */
+    public int getX(int index) {
+        return x[slot(index)];
+    }
+
+    /**
+     * Returns the y-coordinate of a segment.
+     *
+     * @param index the index of the segment, 0 for the head; {@code size()} is the cell the tail has just left
+     * @return the y-coordinate in pixels
+     */
+    public int getY(int index) {
+        return y[slot(index)];
+    }
+
+    /**
+     * Passes every segment to the consumer, from the head to the tail.
+     *
+     * @param consumer the consumer of the segments
+     */
+    public void forEach(SegmentConsumer consumer) {
+        // The segments are at most two contiguous runs of the arrays: from the head to the end, then from the start.
+        int firstRun = Math.min(length, x.length - head);
+        for (int i = 0; i < firstRun; i++) {
+            consumer.accept(i, x[head + i], y[head + i]);
+        }
+        for (int i = firstRun; i < length; i++) {
+            consumer.accept(i, x[i - firstRun], y[i - firstRun]);
+        }
+    }
+
+    /**
+     * Copies the x-coordinates of the segments, from the head to the tail.
+     *
+     * @return a new array of {@code size()} x-coordinates
+     */
+    public int[] copyX() {
+        return copy(x);
+    }
+
+    /**
+     * Copies the y-coordinates of the segments, from the head to the tail.
+     *
+     * @return a new array of {@code size()} y-coordinates
+     */
+    public int[] copyY() {
+        return copy(y);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public int getHeadX() {
+        return x[head];
+    }
+
+    public int getHeadY() {
+        return y[head];
+    }
+
+    private int[] copy(int[] coordinates) {
+        int[] copy = new int[length];
+        int firstRun = Math.min(length, coordinates.length - head);
+        System.arraycopy(coordinates, head, copy, 0, firstRun);
+        System.arraycopy(coordinates, 0, copy, firstRun, length - firstRun);
+        return copy;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index > length || index >= x.length) {
+            throw new IndexOutOfBoundsException("Segment " + index + " of a snake with " + length + " segments");
+        }
+        int slot = head + index;
+        return slot >= x.length ? slot - x.length : slot;
+    }
+}
@@ -0,0 +1,247 @@
+package game.view;
+
+import game.controller.GameController;
+
+import java.awt.*;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The ActiveGameCanvas class draws the game on its own render thread instead of waiting for Swing to repaint it.
+ * Every frame is drawn into a back buffer that is then flipped to the screen, at the configured target frame rate.
+ * Pressing F3 shows a histogram of the frame times; every other key goes to the GameController.
+ * GamePanel remains the default view.
+ */
+public class ActiveGameCanvas extends Canvas implements GameView, Runnable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int BUFFERS = 2;
+
+    /**
+     * How long before a frame's deadline the render thread stops sleeping and waits actively,
+     * because sleeping is not precise enough to hit the deadline.
+     */
+    private static final long SPIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final transient GameRenderer renderer;
+    private final long framePeriodNanos;
+    private final transient FrameTimeHistogram histogram;
+
+    private transient volatile GameController controller;
+    private volatile boolean showFrameTimes;
+    private volatile boolean resetFrameTimes;
+
+    /**
+     * When the current game started, and when it ended or 0 while it is running, for the elapsed time shown.
+     */
+    private volatile long gameStartNanos;
+    private volatile long gameOverNanos;
+
+    private transient Thread renderThread;
+
+    /**
+     * Constructs an ActiveGameCanvas with the specified GameController. Nothing is drawn until {@link #start()}.
+     *
+     * @param controller the GameController to handle game logic and input
+     * @param config     the GameConfig instance containing game dimensions, unit size and target frame rate
+     */
+    public ActiveGameCanvas(GameController controller, GameConfig config) {
+        this.controller = controller;
+        this.renderer = new GameRenderer(config);
+        this.framePeriodNanos = TimeUnit.SECONDS.toNanos(1) / config.getTargetFps();
+        this.histogram = new FrameTimeHistogram();
+        setPreferredSize(new Dimension(config.getScreenWidth(), config.getScreenHeight()));
+        setBackground(GameRenderer.BACKGROUND_COLOR);
+        setIgnoreRepaint(true);
+        setFocusable(true);
+        addKeyListener(new MyKeyAdapter());
+        if (controller != null) {
+            restartClock();
+            controller.startGame();
+        }
+    }
+
+    /**
+     * Sets the GameController for this canvas and starts the game.
+     *
+     * @param controller the GameController to handle game logic and input
+     */
+    public void setController(GameController controller) {
+        this.controller = controller;
+        restartClock();
+        controller.startGame();
+    }
+
+    /**
+     * Creates the buffers and starts the render thread. The canvas must already be shown in a window.
+     */
+    public synchronized void start() {
+        if (renderThread != null) {
+            return;
+        }
+        createBuffers();
+        renderThread = new Thread(this, "snake-render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+        requestFocus();
+    }
+
+    /**
+     * Stops the render thread and waits for it to finish its frame.
+     */
+    public synchronized void stop() {
+        if (renderThread == null) {
+            return;
+        }
+        renderThread.interrupt();
+        try {
+            renderThread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        renderThread = null;
+    }
+
+    /**
+     * Stops rendering before the buffers are released with the window.
+     */
+    @Override
+    public void removeNotify() {
+        stop();
+        super.removeNotify();
+    }
+
+    /**
+     * Does nothing: the render thread picks up the new game state with its next frame.
+     */
+    @Override
+    public void renderFrame() {
+    }
+
+    /**
+     * Stops the clock and shows the leaderboard and restarting options; the render thread keeps showing the board.
+     */
+    @Override
+    public void gameOver() {
+        gameOverNanos = System.nanoTime();
+        GameOverDialogs.show(this, controller, this::restartClock);
+    }
+
+    /**
+     * Draws frames at the target rate until the thread is interrupted.
+     * Each frame has a deadline one frame period after the previous one; a frame that is late by more than
+     * a whole period moves the deadlines instead of drawing the missed frames in a burst.
+     */
+    @Override
+    public void run() {
+        BufferStrategy strategy = getBufferStrategy();
+        long nextFrame = System.nanoTime();
+        long lastFrame = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            long frameStart = System.nanoTime();
+            if (resetFrameTimes) {
+                resetFrameTimes = false;
+                histogram.reset();
+            } else if (lastFrame != 0) {
+                histogram.record(frameStart - lastFrame);
+            }
+            lastFrame = frameStart;
+
+            GameController current = controller;
+            if (current != null) {
+                renderer.render(current.getGameLogic());
+                drawFrame(strategy);
+            }
+
+            nextFrame += framePeriodNanos;
+            if (System.nanoTime() - nextFrame > framePeriodNanos) {
+                nextFrame = System.nanoTime();
+            }
+            waitUntil(nextFrame);
+        }
+    }
+
+    /**
+     * Copies the board into the back buffer, draws the score, the time and maybe the frame times over it,
+     * and shows the buffer. The frame is drawn again if the buffer's contents were lost meanwhile.
+     */
+    private void drawFrame(BufferStrategy strategy) {
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    renderer.paint(g);
+                    renderer.paintHud(g, getElapsedTimeInSeconds());
+                    if (showFrameTimes) {
+                        histogram.paint(g, 10, getHeight() - 110, 240, 100);
+                    }
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        // Flushes the drawing to the screen on systems that buffer it, such as X11
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Sleeps until shortly before the deadline and waits actively for the rest.
+     */
+    private void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Uses page flipping if the graphics system supports it for this canvas, and copying the back buffer otherwise.
+     */
+    private void createBuffers() {
+        BufferCapabilities pageFlipping = new BufferCapabilities(new ImageCapabilities(true), new ImageCapabilities(true),
+                BufferCapabilities.FlipContents.UNDEFINED);
+        try {
+            createBufferStrategy(BUFFERS, pageFlipping);
+        } catch (AWTException e) {
+            createBufferStrategy(BUFFERS);
+        }
+    }
+
+    private void restartClock() {
+        gameStartNanos = System.nanoTime();
+        gameOverNanos = 0;
+    }
+
+    private int getElapsedTimeInSeconds() {
+        long end = gameOverNanos != 0 ? gameOverNanos : System.nanoTime();
+        return (int) TimeUnit.NANOSECONDS.toSeconds(end - gameStartNanos);
+    }
+
+    /**
+     * A private inner class to handle keyboard input for controlling the game.
+     */
+    private class MyKeyAdapter extends KeyAdapter {
+        /**
+         * Invoked when a key is pressed. F3 shows or hides the frame times, starting them afresh when shown.
+         *
+         * @param e the KeyEvent describing the key press
+         */
+        @Override
+        public void keyPressed(KeyEvent e) {
+            if (e.getKeyCode() == KeyEvent.VK_F3) {
+                resetFrameTimes = !showFrameTimes;
+                showFrameTimes = !showFrameTimes;
+            } else if (controller != null) {
+                controller.handleKeyPress(e);
+            }
+        }
+    }
+}
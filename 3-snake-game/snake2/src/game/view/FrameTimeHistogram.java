@@ -0,0 +1,114 @@
+package game.view;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The FrameTimeHistogram class counts frame times in buckets of one millisecond, so active rendering can show how
+ * evenly its frames are paced. Frame times of {@code BUCKETS - 1} milliseconds or more share the last bucket.
+ * It is not thread-safe: the render thread both records the frame times and draws the histogram.
+ */
+public class FrameTimeHistogram {
+
+    /**
+     * The number of buckets, the last one collecting all the longer frames.
+     */
+    public static final int BUCKETS = 34;
+
+    private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 170);
+    private static final Color BAR_COLOR = new Color(45, 180, 0);
+    private static final Color TEXT_COLOR = Color.WHITE;
+    private static final Font TEXT_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Adds a frame time.
+     *
+     * @param frameNanos the time between the start of the frame and the start of the previous one
+     */
+    public void record(long frameNanos) {
+        int bucket = (int) Math.min(TimeUnit.NANOSECONDS.toMillis(frameNanos), BUCKETS - 1);
+        counts[bucket]++;
+        count++;
+        totalNanos += frameNanos;
+        maxNanos = Math.max(maxNanos, frameNanos);
+    }
+
+    /**
+     * Forgets all the frame times recorded so far.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : totalNanos / 1e6 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos / 1e6;
+    }
+
+    /**
+     * Returns the frame time that the given fraction of the frames do not exceed, rounded up to a whole millisecond.
+     *
+     * @param fraction a number between 0 and 1, for example 0.99 for the 99th percentile
+     * @return the frame time in milliseconds, 0 if no frame was recorded
+     */
+    public int getPercentileMillis(double fraction) {
+        long needed = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= needed && seen > 0) {
+                return bucket + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Draws the histogram as a bar per millisecond, with the mean, the 99th percentile and the longest frame above it.
+     *
+     * @param g      the Graphics object used for rendering
+     * @param x      the left edge of the overlay
+     * @param y      the top edge of the overlay
+     * @param width  the width of the overlay
+     * @param height the height of the overlay
+     */
+    public void paint(Graphics g, int x, int y, int width, int height) {
+        g.setColor(BACKGROUND_COLOR);
+        g.fillRect(x, y, width, height);
+
+        g.setColor(TEXT_COLOR);
+        g.setFont(TEXT_FONT);
+        int textHeight = g.getFontMetrics().getHeight();
+        g.drawString(String.format("mean %.1f ms  p99 %d ms  max %.1f ms", getMeanMillis(), getPercentileMillis(0.99),
+                getMaxMillis()), x + 4, y + textHeight);
+
+        long highest = Arrays.stream(counts).max().orElse(0);
+        if (highest == 0) {
+            return;
+        }
+        int barsTop = y + textHeight + 4;
+        int barsHeight = height - (barsTop - y) - 2;
+        int barWidth = Math.max(1, width / BUCKETS);
+        g.setColor(BAR_COLOR);
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int barHeight = (int) (barsHeight * counts[bucket] / highest);
+            g.fillRect(x + bucket * barWidth, barsTop + barsHeight - barHeight, Math.max(1, barWidth - 1), barHeight);
+        }
+    }
+}
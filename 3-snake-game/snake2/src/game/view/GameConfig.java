@@ -4,21 +4,67 @@ package game.view;
  * The GameConfig class holds configuration values related to the game's dimensions and unit size.
  */
 public class GameConfig {
+    /**
+     * The number of times per second the snake moves when no tick rate is given.
+     */
+    public static final int DEFAULT_TICK_RATE = 10;
+
+    /**
+     * The number of frames per second active rendering aims for when no target is given.
+     */
+    public static final int DEFAULT_TARGET_FPS = 60;
+
     private final int screenWidth;
     private final int screenHeight;
     private final int unitSize;
+    private final int tickRate;
+    private final int targetFps;
 
     /**
-     * Constructs a GameConfig instance with the specified screen dimensions and unit size.
+     * Constructs a GameConfig instance with the specified screen dimensions and unit size, and the default tick rate.
      *
      * @param screenWidth  the width of the game screen in pixels
      * @param screenHeight the height of the game screen in pixels
      * @param unitSize     the size of each grid unit in pixels
      */
     public GameConfig(int screenWidth, int screenHeight, int unitSize) {
+        this(screenWidth, screenHeight, unitSize, DEFAULT_TICK_RATE);
+    }
+
+    /**
+     * Constructs a GameConfig instance with the specified screen dimensions, unit size and tick rate,
+     * and the default target frame rate.
+     *
+     * @param screenWidth  the width of the game screen in pixels
+     * @param screenHeight the height of the game screen in pixels
+     * @param unitSize     the size of each grid unit in pixels
+     * @param tickRate     the number of times per second the snake moves
+     */
+    public GameConfig(int screenWidth, int screenHeight, int unitSize, int tickRate) {
+        this(screenWidth, screenHeight, unitSize, tickRate, DEFAULT_TARGET_FPS);
+    }
+
+    /**
+     * Constructs a GameConfig instance with the specified screen dimensions, unit size, tick rate and target frame rate.
+     *
+     * @param screenWidth  the width of the game screen in pixels
+     * @param screenHeight the height of the game screen in pixels
+     * @param unitSize     the size of each grid unit in pixels
+     * @param tickRate     the number of times per second the snake moves
+     * @param targetFps    the number of frames per second active rendering aims for
+     */
+    public GameConfig(int screenWidth, int screenHeight, int unitSize, int tickRate, int targetFps) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        if (targetFps <= 0) {
+            throw new IllegalArgumentException("Target frame rate must be positive: " + targetFps);
+        }
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
         this.unitSize = unitSize;
+        this.tickRate = tickRate;
+        this.targetFps = targetFps;
     }
 
     public int getScreenWidth() {
@@ -32,4 +78,12 @@ public class GameConfig {
     public int getUnitSize() {
         return unitSize;
     }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getTargetFps() {
+        return targetFps;
+    }
 }
@@ -0,0 +1,70 @@
+package game.view;
+
+import game.controller.GameController;
+import game.model.GameLogic;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * The GameOverDialogs class asks for the player's name when a game is over, shows the leaderboard and asks
+ * whether to play again. It is shared by the views of the game.
+ */
+final class GameOverDialogs {
+
+    private GameOverDialogs() {
+    }
+
+    /**
+     * Asks for the player's name, saves the score and shows the top scores, then asks whether to restart.
+     *
+     * @param parent     the component the dialogs are centered on
+     * @param controller the GameController of the finished game
+     * @param onRestart  run on the event thread just before a new game is started
+     */
+    static void show(Component parent, GameController controller, Runnable onRestart) {
+        String playerName = JOptionPane.showInputDialog(parent, "Enter Your Name:", "Game Over", JOptionPane.PLAIN_MESSAGE);
+        if (playerName == null || playerName.trim().isEmpty()) {
+            playerName = "Unknown Player";
+        }
+
+        saveAndDisplayLeaderboard(parent, controller, playerName, onRestart);
+    }
+
+    /**
+     * Saves the player's score to the leaderboard and displays the top scores.
+     * The database is accessed in the background; the scores are shown on the event thread once they arrive.
+     */
+    private static void saveAndDisplayLeaderboard(Component parent, GameController controller, String playerName,
+                                                  Runnable onRestart) {
+        GameLogic gameLogic = controller.getGameLogic();
+        gameLogic.saveScoreToDatabase(playerName);
+
+        gameLogic.getTopScoresFromDatabaseAsync().whenComplete((topScores, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                JOptionPane.showMessageDialog(parent, "The top scores could not be loaded.", "Top Scores", JOptionPane.ERROR_MESSAGE);
+            } else {
+                StringBuilder scoresDisplay = new StringBuilder("Top Scores:\n");
+                for (String score : topScores) {
+                    scoresDisplay.append(score).append("\n");
+                }
+                JOptionPane.showMessageDialog(parent, scoresDisplay.toString(), "Top Scores", JOptionPane.INFORMATION_MESSAGE);
+            }
+            askToRestart(parent, controller, onRestart);
+        }));
+    }
+
+    /**
+     * Asks the player whether to play again, and either restarts the game or closes the application.
+     */
+    private static void askToRestart(Component parent, GameController controller, Runnable onRestart) {
+        int choice = JOptionPane.showConfirmDialog(parent, "Do you want to restart?", "Restart Game", JOptionPane.YES_NO_OPTION);
+        if (choice == JOptionPane.YES_OPTION) {
+            onRestart.run();
+            controller.restartGame();
+        } else {
+            controller.getGameLogic().closeDatabase();
+            System.exit(0);
+        }
+    }
+}
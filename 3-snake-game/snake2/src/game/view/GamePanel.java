@@ -1,7 +1,6 @@
 package game.view;
 
 import game.controller.*;
-import game.model.*;
 
 import javax.swing.*;
 import java.awt.*;
@@ -9,12 +8,12 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.util.List;
 
 /**
  * The GamePanel class is responsible for rendering the game's visual elements and handling user input.
+ * Swing paints it on the event thread; see ActiveGameCanvas for the view that draws itself.
  */
-public class GamePanel extends JPanel {
+public class GamePanel extends JPanel implements GameView {
 
     /**
      * The GameController instance responsible for managing game logic and handling input.
@@ -31,15 +30,33 @@ public class GamePanel extends JPanel {
      */
     private Timer timer;
 
+    /**
+     * Draws the board off the event thread; the panel only copies the parts that changed.
+     */
+    private final GameRenderer renderer;
+
+    /**
+     * The strip at the top of the panel where the score and the timer are drawn.
+     */
+    private final Rectangle hudBounds;
+
+    /**
+     * The score the last repaint of the score and timer was requested for.
+     */
+    private int shownScore;
+
     /**
      * Constructs a GamePanel with the specified GameController.
      *
      * @param controller the GameController to handle game logic and input
+     * @param config     the GameConfig instance containing game dimensions and unit size
      */
-    public GamePanel(GameController controller) {
+    public GamePanel(GameController controller, GameConfig config) {
         this.controller = controller;
         this.elapsedTimeInSeconds = 0; // Initialize elapsed time
-        initializePanel();
+        this.renderer = new GameRenderer(config);
+        this.hudBounds = renderer.getHudBounds();
+        initializePanel(config);
         startTimer();
         if (controller != null) {
             controller.startGame();
@@ -49,9 +66,9 @@ public class GamePanel extends JPanel {
     /**
      * Sets up the panel's dimensions, background, and key listener.
      */
-    private void initializePanel() {
-        setPreferredSize(new Dimension(600, 600));
-        setBackground(Color.BLACK);
+    private void initializePanel(GameConfig config) {
+        setPreferredSize(new Dimension(config.getScreenWidth(), config.getScreenHeight()));
+        setBackground(GameRenderer.BACKGROUND_COLOR);
         setFocusable(true);
         addKeyListener(new MyKeyAdapter());
         requestFocusInWindow();
@@ -65,7 +82,7 @@ public class GamePanel extends JPanel {
             @Override
             public void actionPerformed(ActionEvent e) {
                 elapsedTimeInSeconds++;
-                repaint();
+                repaint(hudBounds);
             }
         });
         timer.start();
@@ -82,128 +99,47 @@ public class GamePanel extends JPanel {
     }
 
     /**
-     * Overrides the paintComponent method to render the game elements.
-     *
-     * @param g the Graphics object used for rendering
+     * Brings the board up to date with the game state and repaints only the parts that changed.
+     * It is called by the game loop after every tick, so the board is drawn off the event thread.
      */
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        if (controller != null) {
-            draw(g);
+    public void renderFrame() {
+        if (controller == null) {
+            return;
         }
-    }
-
-    /**
-     * Draws the game elements, including the player, obstacles, apple, score, and timer.
-     *
-     * @param g the Graphics object used for rendering
-     */
-    private void draw(Graphics g) {
-        GameLogic gameLogic = controller.getGameLogic();
-
-        if (gameLogic.isRunning()) {
-            drawObstacles(g, gameLogic);
-            drawApple(g, gameLogic);
-            drawPlayer(g, gameLogic);
-            drawScoreAndTimer(g, gameLogic);
-        } else {
-            gameOver();
+        repaint(renderer.render(controller.getGameLogic()));
+        int score = renderer.getScore();
+        if (score != shownScore) {
+            shownScore = score;
+            repaint(hudBounds);
         }
     }
 
     /**
-     * Draws the obstacles in the game.
-     *
-     * @param g         the Graphics object used for rendering
-     * @param gameLogic the GameLogic instance containing the game state
-     */
-    private void drawObstacles(Graphics g, GameLogic gameLogic) {
-        g.setColor(Color.GRAY);
-        for (Point obstacle : gameLogic.getObstacles()) {
-            g.fillRect(obstacle.x * 25, obstacle.y * 25, 25, 25);
-        }
-    }
-
-    /**
-     * Draws the apple in the game.
-     *
-     * @param g         the Graphics object used for rendering
-     * @param gameLogic the GameLogic instance containing the game state
-     */
-    private void drawApple(Graphics g, GameLogic gameLogic) {
-        g.setColor(Color.RED);
-        g.fillOval(gameLogic.getAppleX(), gameLogic.getAppleY(), 25, 25);
-    }
-
-    /**
-     * Draws the player's body parts on the screen.
+     * Overrides the paintComponent method to copy the rendered board and draw the score and timer on top.
      *
-     * @param g         the Graphics object used for rendering
-     * @param gameLogic the GameLogic instance containing the game state
+     * @param g the Graphics object used for rendering
      */
-    private void drawPlayer(Graphics g, GameLogic gameLogic) {
-        for (int i = 0; i < gameLogic.getBodyParts(); i++) {
-            if (i == 0) {
-                g.setColor(Color.GREEN); // Head
-            } else {
-                g.setColor(new Color(45, 180, 0)); // Body
-            }
-            g.fillRect(gameLogic.getX()[i], gameLogic.getY()[i], 25, 25);
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (controller == null) {
+            super.paintComponent(g);
+            return;
         }
-    }
-
-    /**
-     * Draws the score and timer on the screen.
-     *
-     * @param g         the Graphics object used for rendering
-     * @param gameLogic the GameLogic instance containing the game state
-     */
-    private void drawScoreAndTimer(Graphics g, GameLogic gameLogic) {
-        g.setColor(Color.RED);
-        g.setFont(new Font("Ink Free", Font.BOLD, 40));
-        g.drawString("Score: " + gameLogic.getApplesEaten(), 10, g.getFont().getSize());
-
-        g.drawString("Time: " + elapsedTimeInSeconds + " s", 400, g.getFont().getSize());
+        renderer.paint(g);
+        renderer.paintHud(g, elapsedTimeInSeconds);
     }
 
     /**
      * Handles the game over scenario by displaying the leaderboard and restarting options.
      */
+    @Override
     public void gameOver() {
         timer.stop();
-        String playerName = JOptionPane.showInputDialog(this, "Enter Your Name:", "Game Over", JOptionPane.PLAIN_MESSAGE);
-        if (playerName == null || playerName.trim().isEmpty()) {
-            playerName = "Unknown Player";
-        }
-
-        saveAndDisplayLeaderboard(playerName);
-
-        int choice = JOptionPane.showConfirmDialog(this, "Do you want to restart?", "Restart Game", JOptionPane.YES_NO_OPTION);
-        if (choice == JOptionPane.YES_OPTION) {
+        GameOverDialogs.show(this, controller, () -> {
             elapsedTimeInSeconds = 0; // Reset the timer
             timer.start(); // Restart the timer
-            controller.restartGame();
-        } else {
-            System.exit(0);
-        }
-    }
-
-    /**
-     * Saves the player's score to the leaderboard and displays the top scores.
-     *
-     * @param playerName the name of the player
-     */
-    private void saveAndDisplayLeaderboard(String playerName) {
-        GameLogic gameLogic = controller.getGameLogic();
-        gameLogic.saveScoreToDatabase(playerName);
-
-        List<String> topScores = gameLogic.getTopScoresFromDatabase();
-        StringBuilder scoresDisplay = new StringBuilder("Top Scores:\n");
-        for (String score : topScores) {
-            scoresDisplay.append(score).append("\n");
-        }
-        JOptionPane.showMessageDialog(this, scoresDisplay.toString(), "Top Scores", JOptionPane.INFORMATION_MESSAGE);
+        });
     }
 
     /**
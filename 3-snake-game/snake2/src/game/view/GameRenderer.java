@@ -0,0 +1,226 @@
+package game.view;
+
+import game.model.GameLogic;
+import game.model.SnakeBody;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The GameRenderer class draws the board into an off-screen image, so painting the panel only copies the part of
+ * the image that changed.
+ * The obstacles are drawn into a cached layer once per level. After a regular tick only the cells that changed are
+ * redrawn: the cell the tail left, the old head, the new head and the apple. Anything else, such as a new game or
+ * a restored one, redraws the whole board.
+ * The game loop renders and the event thread paints, so both methods hold the renderer's lock.
+ */
+public class GameRenderer {
+
+    public static final Color BACKGROUND_COLOR = Color.BLACK;
+    public static final Color OBSTACLE_COLOR = Color.GRAY;
+    public static final Color APPLE_COLOR = Color.RED;
+    public static final Color HEAD_COLOR = Color.GREEN;
+    public static final Color BODY_COLOR = new Color(45, 180, 0);
+    public static final Font HUD_FONT = new Font("Ink Free", Font.BOLD, 40);
+
+    private final int unitSize;
+    private final Rectangle bounds;
+
+    /**
+     * The background and the obstacles of the current level.
+     */
+    private final BufferedImage obstacleLayer;
+    private final Graphics2D obstacleGraphics;
+
+    /**
+     * The whole board as it was last rendered.
+     */
+    private final BufferedImage frame;
+    private final Graphics2D frameGraphics;
+
+    /**
+     * Whether the frame shows the state remembered below; false until the first render and after {@link #invalidate()}.
+     */
+    private boolean valid;
+    private int levelVersion;
+    private int headX;
+    private int headY;
+    private int tailX;
+    private int tailY;
+    private int size;
+    private int appleX;
+    private int appleY;
+    private int score;
+
+    /**
+     * Constructs a GameRenderer for a board of the configured size.
+     *
+     * @param config the GameConfig instance containing game dimensions and unit size
+     */
+    public GameRenderer(GameConfig config) {
+        this.unitSize = config.getUnitSize();
+        this.bounds = new Rectangle(0, 0, config.getScreenWidth(), config.getScreenHeight());
+        this.obstacleLayer = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_RGB);
+        this.obstacleGraphics = obstacleLayer.createGraphics();
+        this.frame = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_RGB);
+        this.frameGraphics = frame.createGraphics();
+    }
+
+    /**
+     * Brings the frame up to date with the game state.
+     *
+     * @param gameLogic the GameLogic instance containing the game state
+     * @return the part of the board that changed, in pixels
+     */
+    public synchronized Rectangle render(GameLogic gameLogic) {
+        synchronized (gameLogic) {
+            SnakeBody body = gameLogic.getBody();
+            Rectangle dirty;
+            if (valid && levelVersion == gameLogic.getLevelVersion() && movedOneCell(body)) {
+                dirty = drawChanges(gameLogic, body);
+            } else {
+                dirty = drawAll(gameLogic, body);
+            }
+
+            valid = true;
+            headX = body.getHeadX();
+            headY = body.getHeadY();
+            tailX = body.getX(body.size() - 1);
+            tailY = body.getY(body.size() - 1);
+            size = body.size();
+            appleX = gameLogic.getAppleX();
+            appleY = gameLogic.getAppleY();
+            score = gameLogic.getApplesEaten();
+            return dirty.intersection(bounds);
+        }
+    }
+
+    /**
+     * Copies the part of the frame inside the clip of the given Graphics.
+     *
+     * @param g the Graphics object used for rendering
+     */
+    public synchronized void paint(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = bounds;
+        }
+        int x2 = clip.x + clip.width;
+        int y2 = clip.y + clip.height;
+        g.drawImage(frame, clip.x, clip.y, x2, y2, clip.x, clip.y, x2, y2, null);
+    }
+
+    /**
+     * Draws the score of the last render and the elapsed time over the board.
+     *
+     * @param g                    the Graphics object used for rendering
+     * @param elapsedTimeInSeconds the time since the game started
+     */
+    public synchronized void paintHud(Graphics g, int elapsedTimeInSeconds) {
+        g.setColor(APPLE_COLOR);
+        g.setFont(HUD_FONT);
+        g.drawString("Score: " + score, 10, HUD_FONT.getSize());
+
+        g.drawString("Time: " + elapsedTimeInSeconds + " s", 400, HUD_FONT.getSize());
+    }
+
+    /**
+     * Returns the strip at the top of the board where the score and the time are drawn.
+     *
+     * @return the bounds of the strip, in pixels
+     */
+    public Rectangle getHudBounds() {
+        return new Rectangle(0, 0, bounds.width, HUD_FONT.getSize() + 10);
+    }
+
+    /**
+     * Makes the next render redraw the whole board.
+     */
+    public synchronized void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Returns the score at the time of the last render, so the score shown matches the board.
+     *
+     * @return the number of apples eaten
+     */
+    public synchronized int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether the snake has made exactly one move, and maybe grown, since the last render:
+     * its old head is then its first body segment.
+     */
+    private boolean movedOneCell(SnakeBody body) {
+        return body.size() >= 2 && (body.size() == size || body.size() == size + 1)
+                && body.getX(1) == headX && body.getY(1) == headY;
+    }
+
+    /**
+     * Redraws the cells that changed in one move. The cells are cleared before anything is drawn on them,
+     * and the head is drawn last, so it also covers the cell the tail has just left.
+     */
+    private Rectangle drawChanges(GameLogic gameLogic, SnakeBody body) {
+        Rectangle dirty = fillCell(BODY_COLOR, headX, headY);
+        if (body.size() == size) {
+            dirty.add(clearCell(tailX, tailY));
+        }
+        if (appleX != gameLogic.getAppleX() || appleY != gameLogic.getAppleY()) {
+            dirty.add(clearCell(appleX, appleY));
+            dirty.add(drawApple(gameLogic.getAppleX(), gameLogic.getAppleY()));
+        }
+        dirty.add(fillCell(HEAD_COLOR, body.getHeadX(), body.getHeadY()));
+        return dirty;
+    }
+
+    /**
+     * Redraws the whole board, and first the obstacle layer if the level has changed.
+     */
+    private Rectangle drawAll(GameLogic gameLogic, SnakeBody body) {
+        if (!valid || levelVersion != gameLogic.getLevelVersion()) {
+            drawObstacleLayer(gameLogic);
+            levelVersion = gameLogic.getLevelVersion();
+        }
+        frameGraphics.drawImage(obstacleLayer, 0, 0, null);
+        drawApple(gameLogic.getAppleX(), gameLogic.getAppleY());
+        frameGraphics.setColor(BODY_COLOR);
+        body.forEach((i, x, y) -> {
+            if (i > 0) {
+                frameGraphics.fillRect(x, y, unitSize, unitSize);
+            }
+        });
+        fillCell(HEAD_COLOR, body.getHeadX(), body.getHeadY());
+        return new Rectangle(bounds);
+    }
+
+    private void drawObstacleLayer(GameLogic gameLogic) {
+        obstacleGraphics.setColor(BACKGROUND_COLOR);
+        obstacleGraphics.fillRect(0, 0, bounds.width, bounds.height);
+        obstacleGraphics.setColor(OBSTACLE_COLOR);
+        for (Point obstacle : gameLogic.getObstacles()) {
+            obstacleGraphics.fillRect(obstacle.x * unitSize, obstacle.y * unitSize, unitSize, unitSize);
+        }
+    }
+
+    private Rectangle drawApple(int x, int y) {
+        frameGraphics.setColor(APPLE_COLOR);
+        frameGraphics.fillOval(x, y, unitSize, unitSize);
+        return new Rectangle(x, y, unitSize, unitSize);
+    }
+
+    private Rectangle fillCell(Color color, int x, int y) {
+        frameGraphics.setColor(color);
+        frameGraphics.fillRect(x, y, unitSize, unitSize);
+        return new Rectangle(x, y, unitSize, unitSize);
+    }
+
+    /**
+     * Puts back the background and obstacle of a cell.
+     */
+    private Rectangle clearCell(int x, int y) {
+        frameGraphics.drawImage(obstacleLayer, x, y, x + unitSize, y + unitSize, x, y, x + unitSize, y + unitSize, null);
+        return new Rectangle(x, y, unitSize, unitSize);
+    }
+}
@@ -0,0 +1,19 @@
+package game.view;
+
+/**
+ * The GameView interface is implemented by the views the GameController draws the game on:
+ * GamePanel, which Swing repaints, and ActiveGameCanvas, which draws itself on its own thread.
+ */
+public interface GameView {
+
+    /**
+     * Brings the view up to date with the game state. Called when a game starts and after every tick,
+     * from the event thread or the game loop thread.
+     */
+    void renderFrame();
+
+    /**
+     * Handles the game over scenario by displaying the leaderboard and restarting options. Called on the event thread.
+     */
+    void gameOver();
+}
@@ -0,0 +1,177 @@
+package testing;
+
+import game.model.ConnectionPool;
+import game.model.DatabaseManager;
+import game.model.SchemaManager;
+import game.model.ScoreEntry;
+import game.model.ScorePruner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the database classes against an embedded H2 database in MySQL mode,
+ * so no MySQL server is needed.
+ */
+class DatabaseManagerTest {
+
+    private static int databases;
+
+    private String url;
+    private DatabaseManager databaseManager;
+
+    /**
+     * Gives every test its own in-memory database, which outlives its connections until the tests end.
+     */
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:h2:mem:snake" + (++databases) + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        databaseManager = new DatabaseManager(url, "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseManager.close();
+    }
+
+    /**
+     * Tests that a returned connection is borrowed again, together with the statements prepared on it,
+     * and that a closed pool hands out no more connections.
+     */
+    @Test
+    void testPoolReusesReturnedConnections() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(url, "sa", "", 2);
+        ConnectionPool.PooledConnection first = pool.borrow();
+        ConnectionPool.PooledConnection second = pool.borrow();
+        assertFalse(first == second, "Two borrowed connections should not be the same.");
+
+        PreparedStatement statement = first.prepare("SELECT 1");
+        first.close();
+        ConnectionPool.PooledConnection again = pool.borrow();
+        assertSame(first, again, "The returned connection should be borrowed again.");
+        assertSame(statement, again.prepare("SELECT 1"), "A statement should be prepared once per connection.");
+
+        again.close();
+        second.close();
+        pool.close();
+        assertThrows(SQLException.class, pool::borrow);
+    }
+
+    /**
+     * Tests that the scores are written in the order they were saved and that a read sees exactly
+     * the scores saved before it.
+     */
+    @Test
+    void testQueuedWritesAreOrdered() {
+        databaseManager.saveScore("Alice", 3);
+        CompletableFuture<List<ScoreEntry>> afterFirst = databaseManager.getTopEntriesAsync(10);
+        databaseManager.saveScore("Bob", 5);
+        databaseManager.saveScore("Alice", 4);
+        CompletableFuture<List<ScoreEntry>> afterAll = databaseManager.getTopEntriesAsync(10);
+
+        List<ScoreEntry> first = afterFirst.join();
+        assertEquals(1, first.size());
+        assertEquals("Alice", first.get(0).getPlayerName());
+
+        List<ScoreEntry> all = afterAll.join();
+        assertEquals(3, all.size());
+        assertEquals("Bob", all.get(0).getPlayerName());
+        assertEquals(5, all.get(0).getScore());
+        assertEquals(4, all.get(1).getScore());
+        assertEquals(3, all.get(2).getScore());
+    }
+
+    /**
+     * Tests that closing the database writes every score that is still waiting in the queue.
+     */
+    @Test
+    void testCloseWritesQueuedScores() {
+        for (int score = 0; score < 50; score++) {
+            databaseManager.saveScore("Player" + score % 5, score);
+        }
+        databaseManager.close();
+
+        try (DatabaseManager reopened = new DatabaseManager(url, "sa", "")) {
+            List<ScoreEntry> entries = reopened.getTopEntriesAsync(100).join();
+            assertEquals(50, entries.size(), "Every queued score should be written before closing.");
+            assertEquals(49, entries.get(0).getScore());
+        }
+    }
+
+    /**
+     * Tests that pruning keeps a score if it is among the best scores overall or among the best scores
+     * of its player, and deletes every other score.
+     */
+    @Test
+    void testPruneKeepsBestScoresOverallAndPerPlayer() {
+        databaseManager.saveScore("Alice", 10);
+        databaseManager.saveScore("Alice", 9);
+        databaseManager.saveScore("Alice", 1);
+        databaseManager.saveScore("Bob", 8);
+        databaseManager.saveScore("Bob", 2);
+        databaseManager.saveScore("Carol", 3);
+
+        try (ScorePruner pruner = new ScorePruner(databaseManager, 2, 1)) {
+            pruner.prune();
+        }
+
+        List<ScoreEntry> entries = databaseManager.getTopEntriesAsync(10).join();
+        assertEquals(List.of(10, 9, 8, 3), entries.stream().map(ScoreEntry::getScore).toList());
+        assertEquals(0, databaseManager.pruneScoresAsync(2, 1).join().intValue(), "Pruning again should delete nothing.");
+    }
+
+    /**
+     * Tests that the migration copies the scores of the old Highscores table once, however often it runs.
+     */
+    @Test
+    void testMigrationCopiesLegacyScoresOnce() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE Highscores (player_name VARCHAR(255), score INT, timestamp TIMESTAMP)");
+            statement.executeUpdate("INSERT INTO Highscores VALUES "
+                    + "('Alice', 7, TIMESTAMP '2024-01-01 12:00:00'), ('Bob', 4, NULL), ('Alice', 2, NULL)");
+
+            assertEquals(0, SchemaManager.migrate(connection));
+            assertEquals(SchemaManager.CURRENT_VERSION, SchemaManager.currentVersion(connection));
+            assertEquals(SchemaManager.CURRENT_VERSION, SchemaManager.migrate(connection));
+        }
+
+        List<ScoreEntry> entries = databaseManager.getTopEntriesAsync(10).join();
+        assertEquals(List.of("Alice", "Bob", "Alice"), entries.stream().map(ScoreEntry::getPlayerName).toList());
+        assertEquals(List.of(7, 4, 2), entries.stream().map(ScoreEntry::getScore).toList());
+    }
+
+    /**
+     * Tests that a first upgrade that failed after creating some of its tables and indexes can run again.
+     */
+    @Test
+    void testMigrationResumesPartialUpgrade() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE players (id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+                    + "name VARCHAR(255) NOT NULL UNIQUE)");
+            statement.executeUpdate("CREATE TABLE scores (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+                    + "player_id INT NOT NULL, score INT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                    + "FOREIGN KEY (player_id) REFERENCES players (id))");
+            statement.executeUpdate("CREATE INDEX idx_scores_rank ON scores (score DESC, created_at)");
+
+            assertEquals(0, SchemaManager.migrate(connection));
+            assertEquals(SchemaManager.CURRENT_VERSION, SchemaManager.currentVersion(connection));
+        }
+
+        databaseManager.saveScore("Alice", 5);
+        assertEquals(1, databaseManager.getTopEntriesAsync(10).join().size());
+    }
+}
@@ -1,5 +1,6 @@
 package testing;
 
+import game.controller.GameLoop;
 import game.model.GameLogic;
 import game.model.DatabaseManager;
 import game.model.*;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -64,6 +67,33 @@ class GameLogicTest {
     }
 
 
+    /**
+     * Tests that while the snake keeps eating, every new apple spawns on a cell the occupancy grid
+     * reports as free, away from the snake's body and the obstacles.
+     */
+    @Test
+    void testAppleSpawnsOnFreeCell() {
+        gameLogic.startGame();
+        OccupancyGrid occupancy = gameLogic.getOccupancy();
+        int unitSize = config.getUnitSize();
+
+        for (int i = 0; i < 50; i++) {
+            int column = gameLogic.getAppleX() / unitSize;
+            int row = gameLogic.getAppleY() / unitSize;
+            assertFalse(occupancy.isSnake(column, row), "Apple should not spawn on the snake.");
+            assertFalse(occupancy.isObstacle(column, row), "Apple should not spawn on an obstacle.");
+            SnakeBody body = gameLogic.getBody();
+            for (int part = 1; part < body.size(); part++) {
+                assertFalse(body.getX(part) == gameLogic.getAppleX() && body.getY(part) == gameLogic.getAppleY(),
+                        "Apple should not spawn on the snake's body.");
+            }
+
+            body.setSegment(0, gameLogic.getAppleX(), gameLogic.getAppleY());
+            assertTrue(gameLogic.checkApple());
+        }
+    }
+
+
     /**
      * Tests the {@code checkApple} method to verify that the snake's body grows
      * and the score increases when an apple is eaten.
@@ -76,8 +106,7 @@ class GameLogicTest {
         int initialApplesEaten = gameLogic.getApplesEaten();
 
         // Set the apple's position directly
-        gameLogic.getX()[0] = gameLogic.getAppleX();
-        gameLogic.getY()[0] = gameLogic.getAppleY();
+        gameLogic.getBody().setSegment(0, gameLogic.getAppleX(), gameLogic.getAppleY());
 
         boolean ateApple = gameLogic.checkApple();
 
@@ -135,12 +164,156 @@ class GameLogicTest {
     void testSnakeCollisionEndsGame() {
         gameLogic.startGame();
 
-        gameLogic.getX()[0] = gameLogic.getX()[1];
-        gameLogic.getY()[0] = gameLogic.getY()[1];
+        SnakeBody body = gameLogic.getBody();
+        body.setSegment(0, body.getX(1), body.getY(1));
 
         boolean collision = gameLogic.checkCollisions();
 
         assertTrue(collision);
         assertFalse(gameLogic.isRunning());
     }
+
+    /**
+     * Tests that the headless game loop keeps ticking until the snake, which starts in the middle
+     * of the board heading right, runs into something.
+     */
+    @Test
+    void testHeadlessLoopRunsUntilCollision() {
+        gameLogic.startGame();
+        GameLoop gameLoop = new GameLoop(gameLogic, config.getTickRate());
+
+        long ticks = gameLoop.runHeadless(1000);
+
+        assertFalse(gameLogic.isRunning());
+        assertTrue(ticks < config.getScreenWidth() / 2 / config.getUnitSize(), "The snake should hit the wall at the latest.");
+        assertFalse(gameLoop.step(), "A finished game should not tick any more.");
+    }
+
+    /**
+     * Tests that queued direction changes are applied one per tick and that reversing the snake is rejected.
+     */
+    @Test
+    void testQueuedDirectionsRejectReversal() {
+        // A level without obstacles, so the snake cannot collide during the test
+        gameLogic.restore(new PlayerSave("TestPlayer", new int[]{300, 275}, new int[]{300, 300}, 2, 0, 'R', new ArrayList<>()));
+        GameLoop gameLoop = new GameLoop(gameLogic, config.getTickRate());
+
+        gameLoop.queueDirection('L');
+        gameLoop.queueDirection('U');
+        gameLoop.step();
+        assertEquals('U', gameLogic.getDirection());
+
+        gameLoop.queueDirection('D');
+        gameLoop.queueDirection('L');
+        gameLoop.step();
+        assertEquals('L', gameLogic.getDirection());
+    }
+
+    /**
+     * Tests that redrawing only the changed cells after every tick gives the same board as drawing it from scratch,
+     * while the snake chases apples and grows.
+     */
+    @Test
+    void testIncrementalRenderingMatchesFullRedraw() {
+        gameLogic.restore(new PlayerSave("TestPlayer", new int[]{300, 275}, new int[]{300, 300}, 2, 0, 'R', new ArrayList<>()));
+        GameLoop gameLoop = new GameLoop(gameLogic, config.getTickRate());
+        GameRenderer renderer = new GameRenderer(config);
+        GameRenderer fullRenderer = new GameRenderer(config);
+        renderer.render(gameLogic);
+
+        for (int tick = 0; tick < 200 && gameLogic.isRunning(); tick++) {
+            gameLoop.queueDirection(directionToApple());
+            gameLoop.step();
+
+            Rectangle dirty = renderer.render(gameLogic);
+            fullRenderer.invalidate();
+            fullRenderer.render(gameLogic);
+
+            assertTrue(dirty.width < config.getScreenWidth() || dirty.height < config.getScreenHeight(),
+                    "Only the changed cells should be redrawn.");
+            assertArrayEquals(pixels(fullRenderer), pixels(renderer), "Tick " + tick + " was drawn differently.");
+        }
+        assertTrue(gameLogic.getApplesEaten() > 0, "The snake should have eaten an apple.");
+    }
+
+    /**
+     * Tests that the frame time histogram puts every frame in the bucket of its whole milliseconds,
+     * collects the longest frames in the last bucket, and reports percentiles as the upper edge of a bucket.
+     */
+    @Test
+    void testFrameTimeHistogramPercentiles() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(0.5));
+        assertEquals(0, histogram.getPercentileMillis(0.99));
+        assertEquals(0.0, histogram.getMeanMillis());
+        assertEquals(0.0, histogram.getMaxMillis());
+
+        histogram.record(999_999);
+        assertEquals(1, histogram.getPercentileMillis(1));
+        histogram.reset();
+        histogram.record(1_000_000);
+        assertEquals(2, histogram.getPercentileMillis(1));
+        histogram.reset();
+        histogram.record(16_999_999);
+        assertEquals(17, histogram.getPercentileMillis(1));
+        histogram.reset();
+        histogram.record(17_000_000);
+        assertEquals(18, histogram.getPercentileMillis(1));
+        histogram.reset();
+
+        for (int frame = 0; frame < 98; frame++) {
+            histogram.record(5_500_000);
+        }
+        histogram.record(20_000_000);
+        histogram.record(1_000_000_000);
+        assertEquals(100, histogram.getCount());
+        assertEquals(6, histogram.getPercentileMillis(0));
+        assertEquals(6, histogram.getPercentileMillis(0.5));
+        assertEquals(6, histogram.getPercentileMillis(0.98));
+        assertEquals(21, histogram.getPercentileMillis(0.99));
+        assertEquals(FrameTimeHistogram.BUCKETS, histogram.getPercentileMillis(1));
+        assertEquals(1000.0, histogram.getMaxMillis(), 1e-9);
+        assertEquals((98 * 5.5 + 20 + 1000) / 100, histogram.getMeanMillis(), 1e-9);
+
+        histogram.record((FrameTimeHistogram.BUCKETS - 1) * 1_000_000L);
+        histogram.record(Long.MAX_VALUE / 2);
+        assertEquals(FrameTimeHistogram.BUCKETS, histogram.getPercentileMillis(0.99));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(1));
+    }
+
+    /**
+     * Heads for the apple, turning aside first when the apple is right behind the snake.
+     */
+    private char directionToApple() {
+        int headX = gameLogic.getBody().getHeadX();
+        int headY = gameLogic.getBody().getHeadY();
+        char direction;
+        if (gameLogic.getAppleX() != headX) {
+            direction = gameLogic.getAppleX() < headX ? 'L' : 'R';
+        } else {
+            direction = gameLogic.getAppleY() < headY ? 'U' : 'D';
+        }
+        boolean reverses = switch (gameLogic.getDirection()) {
+            case 'L' -> direction == 'R';
+            case 'R' -> direction == 'L';
+            case 'U' -> direction == 'D';
+            default -> direction == 'U';
+        };
+        if (reverses) {
+            return direction == 'L' || direction == 'R' ? (headY > 0 ? 'U' : 'D') : (headX > 0 ? 'L' : 'R');
+        }
+        return direction;
+    }
+
+    private int[] pixels(GameRenderer renderer) {
+        BufferedImage image = new BufferedImage(config.getScreenWidth(), config.getScreenHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics g = image.getGraphics();
+        renderer.paint(g);
+        g.dispose();
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
 }
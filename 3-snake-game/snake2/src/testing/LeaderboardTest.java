@@ -0,0 +1,138 @@
+package testing;
+
+import game.model.DatabaseManager;
+import game.model.Leaderboard;
+import game.model.ScoreEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests how the {@code Leaderboard} merges the scores loaded from the database with the ones
+ * submitted meanwhile, using a database that answers only when a test tells it to.
+ */
+class LeaderboardTest {
+
+    private static final LocalDateTime EARLIER = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private StubDatabaseManager databaseManager;
+
+    /**
+     * A database that records the saved scores and returns the top scores only when the test completes them.
+     */
+    private static class StubDatabaseManager extends DatabaseManager {
+        private final List<String> savedScores = new ArrayList<>();
+        private CompletableFuture<List<ScoreEntry>> topEntries = new CompletableFuture<>();
+        private int loads;
+
+        @Override
+        public void saveScore(String playerName, int score) {
+            savedScores.add(playerName + ": " + score);
+        }
+
+        @Override
+        public CompletableFuture<List<ScoreEntry>> getTopEntriesAsync(int limit) {
+            loads++;
+            return topEntries;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseManager = new StubDatabaseManager();
+    }
+
+    /**
+     * Tests that a score submitted before the load is not counted twice,
+     * because the database already returns it with the loaded scores.
+     */
+    @Test
+    void testSubmitBeforeLoad() {
+        Leaderboard leaderboard = new Leaderboard(databaseManager);
+        leaderboard.submit("Alice", 5);
+        assertEquals(List.of("Alice: 5"), databaseManager.savedScores);
+
+        CompletableFuture<Void> loaded = leaderboard.load();
+        databaseManager.topEntries.complete(List.of(new ScoreEntry("Alice", 5, EARLIER), new ScoreEntry("Bob", 3, EARLIER)));
+
+        assertTrue(loaded.isDone());
+        assertEquals(List.of("Alice", "Bob"), names(leaderboard));
+    }
+
+    /**
+     * Tests that a score submitted while the load is running is shown right away
+     * and is still there after the loaded scores replace the entries.
+     */
+    @Test
+    void testSubmitDuringLoad() {
+        Leaderboard leaderboard = new Leaderboard(databaseManager);
+        CompletableFuture<Void> loaded = leaderboard.load();
+        leaderboard.submit("Carol", 9);
+        assertEquals(List.of("Carol"), names(leaderboard));
+
+        databaseManager.topEntries.complete(List.of(new ScoreEntry("Alice", 5, EARLIER), new ScoreEntry("Bob", 3, EARLIER)));
+
+        assertTrue(loaded.isDone());
+        assertEquals(List.of("Carol", "Alice", "Bob"), names(leaderboard));
+        assertSame(loaded, leaderboard.load(), "A finished load should not be started again.");
+        assertEquals(1, databaseManager.loads);
+    }
+
+    /**
+     * Tests that a full leaderboard drops its worst entry for a better score, ignores worse scores,
+     * and keeps the earlier of two equal scores.
+     */
+    @Test
+    void testCapacityEviction() {
+        Leaderboard leaderboard = new Leaderboard(databaseManager, 3);
+        leaderboard.submit("Alice", 4);
+        leaderboard.submit("Bob", 7);
+        leaderboard.submit("Carol", 2);
+        leaderboard.submit("Dave", 9);
+        assertEquals(List.of("Dave", "Bob", "Alice"), names(leaderboard));
+
+        leaderboard.submit("Erin", 1);
+        leaderboard.submit("Frank", 4);
+        assertEquals(List.of("Dave", "Bob", "Alice"), names(leaderboard));
+        assertEquals(6, databaseManager.savedScores.size(), "Every score should be saved, even if it is not shown.");
+    }
+
+    /**
+     * Tests that after a failed load the submitted scores are still shown, and that the next load
+     * merges only the scores submitted while it was running.
+     */
+    @Test
+    void testFailedLoadIsRetried() {
+        Leaderboard leaderboard = new Leaderboard(databaseManager);
+        CompletableFuture<Void> failed = leaderboard.load();
+        leaderboard.submit("Dave", 6);
+        databaseManager.topEntries.completeExceptionally(new RuntimeException("Database is down"));
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(List.of("Dave"), names(leaderboard));
+
+        databaseManager.topEntries = new CompletableFuture<>();
+        CompletableFuture<Void> loaded = leaderboard.load();
+        assertEquals(2, databaseManager.loads);
+        leaderboard.submit("Erin", 1);
+        databaseManager.topEntries.complete(List.of(new ScoreEntry("Frank", 8, EARLIER), new ScoreEntry("Dave", 6, EARLIER)));
+
+        assertTrue(loaded.isDone());
+        assertEquals(List.of("Frank", "Dave", "Erin"), names(leaderboard));
+    }
+
+    private List<String> names(Leaderboard leaderboard) {
+        List<String> names = new ArrayList<>();
+        for (ScoreEntry entry : leaderboard.getEntries()) {
+            names.add(entry.getPlayerName());
+        }
+        return names;
+    }
+}
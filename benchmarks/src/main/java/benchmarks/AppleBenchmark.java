@@ -0,0 +1,71 @@
+package benchmarks;
+
+import game.model.AppleManager;
+import game.model.OccupancyGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places a new apple on a grid that is mostly covered by the snake and obstacles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppleBenchmark {
+    private static final int UNIT_SIZE = 25;
+    private static final int GRID_SIZE = 40;
+
+    @Param({"0.5", "0.9", "0.99"})
+    public double filled;
+
+    private AppleManager appleManager;
+    private OccupancyGrid occupancy;
+    private Point head;
+
+    @Setup
+    public void setUp() {
+        appleManager = new AppleManager(GRID_SIZE * UNIT_SIZE, GRID_SIZE * UNIT_SIZE, UNIT_SIZE);
+        List<Point> cells = new ArrayList<>();
+        for (int column = 0; column < GRID_SIZE; column++) {
+            for (int row = 0; row < GRID_SIZE; row++) {
+                cells.add(new Point(column, row));
+            }
+        }
+        Collections.shuffle(cells, new java.util.Random(42));
+
+        int occupied = (int) (cells.size() * filled);
+        int obstacleCount = occupied / 10;
+        occupancy = new OccupancyGrid(GRID_SIZE, GRID_SIZE);
+        for (Point cell : cells.subList(0, obstacleCount)) {
+            occupancy.addObstacle(cell.x, cell.y);
+        }
+        for (Point cell : cells.subList(obstacleCount, occupied)) {
+            occupancy.occupy(cell.x, cell.y);
+        }
+        head = cells.get(occupied);
+    }
+
+    @Benchmark
+    public int generateNewApple() {
+        appleManager.generateNewApple(occupancy, head.x * UNIT_SIZE, head.y * UNIT_SIZE);
+        return appleManager.getAppleX();
+    }
+}
@@ -0,0 +1,131 @@
+package benchmarks;
+
+import game.CompactGame;
+import game.Dice;
+import game.Game;
+import game.GameLogWriter;
+import game.GameSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays whole Capitaly games on generated boards.
+ * Game.simulate() is Game.startGame() without printing, so the numbers are not dominated by System.out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapitalyBenchmark {
+    private static final String[] STRATEGIES = {"Greedy", "Careful", "Tactical"};
+
+    @Param({"1000", "100000"})
+    public int fields;
+
+    @Param({"4"})
+    public int players;
+
+    @Param({"1000"})
+    public int rounds;
+
+    private Game template;
+    private List<Integer> rolls;
+    private CompactGame compactGame;
+    private Game forkedGame;
+    private GameSnapshot midpoint;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        Path gameFile = Files.createTempFile("capitaly-game", ".txt");
+        Path diceFile = Files.createTempFile("capitaly-dice", ".txt");
+        gameFile.toFile().deleteOnExit();
+        diceFile.toFile().deleteOnExit();
+
+        StringBuilder game = new StringBuilder().append(fields).append('\n');
+        for (int i = 0; i < fields; i++) {
+            switch (random.nextInt(3)) {
+                case 0 -> game.append("P\n");
+                case 1 -> game.append("S ").append(100 + random.nextInt(400)).append('\n');
+                default -> game.append("L ").append(100 + random.nextInt(400)).append('\n');
+            }
+        }
+        game.append(players).append('\n');
+        for (int i = 0; i < players; i++) {
+            game.append("Player").append(i).append(' ').append(STRATEGIES[i % STRATEGIES.length]).append('\n');
+        }
+        game.append(rounds).append('\n');
+        Files.writeString(gameFile, game);
+
+        rolls = new ArrayList<>();
+        StringBuilder dice = new StringBuilder();
+        for (int i = 0; i < rounds * players; i++) {
+            int roll = random.nextInt(6) + 1;
+            rolls.add(roll);
+            dice.append(roll).append('\n');
+        }
+        Files.writeString(diceFile, dice);
+
+        template = new Game(gameFile.toString(), diceFile.toString());
+        compactGame = new CompactGame(template, new Dice(rolls));
+
+        forkedGame = template.copy(new Dice(rolls));
+        forkedGame.simulateUntil(rounds / 2);
+        midpoint = forkedGame.snapshot();
+    }
+
+    @Benchmark
+    public int startGame() {
+        Game game = template.copy(new Dice(rolls));
+        game.simulate();
+        return game.getRoundsPlayed();
+    }
+
+    @Benchmark
+    public int startGameRecorded() throws IOException {
+        Game game = template.copy(new Dice(rolls));
+        try (GameLogWriter log = new GameLogWriter(OutputStream.nullOutputStream(), game)) {
+            game.setEventSink(log);
+            game.simulate();
+        }
+        return game.getRoundsPlayed();
+    }
+
+    /**
+     * Plays the second half of a game again from a snapshot taken in the middle, as a what-if continuation would.
+     */
+    @Benchmark
+    public int forkFromSnapshot() {
+        forkedGame.restore(midpoint, new Dice(rolls));
+        forkedGame.simulate();
+        return forkedGame.getRoundsPlayed();
+    }
+
+    @Benchmark
+    public int compactGame() {
+        compactGame.reset();
+        compactGame.setDice(new Dice(rolls));
+        compactGame.play();
+        return compactGame.getRoundsPlayed();
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import game.Dice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolls the file based dice, including the wrap-around at the end of the file,
+ * for rolls read into memory, parsed from a mapped text file and read from a mapped binary file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+    @Param({"1000", "1000000"})
+    public int rolls;
+
+    @Param({"memory", "mapped", "binary"})
+    public String mode;
+
+    private Dice dice;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        Path diceFile = Files.createTempFile("capitaly-dice", ".txt");
+        diceFile.toFile().deleteOnExit();
+        StringBuilder dice = new StringBuilder();
+        for (int i = 0; i < rolls; i++) {
+            dice.append(random.nextInt(6) + 1).append('\n');
+        }
+        Files.writeString(diceFile, dice);
+
+        switch (mode) {
+            case "mapped" -> this.dice = Dice.mapped(diceFile.toString());
+            case "binary" -> {
+                Path binaryFile = Files.createTempFile("capitaly-dice", ".bin");
+                binaryFile.toFile().deleteOnExit();
+                Dice.writeBinary(diceFile.toString(), binaryFile.toString());
+                this.dice = Dice.mappedBinary(binaryFile.toString());
+            }
+            default -> this.dice = new Dice(diceFile.toString());
+        }
+    }
+
+    @Benchmark
+    public int roll() {
+        return dice.roll();
+    }
+}
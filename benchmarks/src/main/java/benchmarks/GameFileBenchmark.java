@@ -0,0 +1,69 @@
+package benchmarks;
+
+import game.GameFileParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a generated Capitaly board from the text game file and from its binary conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameFileBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int fields;
+
+    private Path textFile;
+    private Path binaryFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        textFile = Files.createTempFile("capitaly-game", ".txt");
+        binaryFile = Files.createTempFile("capitaly-game", ".bin");
+        textFile.toFile().deleteOnExit();
+        binaryFile.toFile().deleteOnExit();
+
+        StringBuilder game = new StringBuilder().append(fields).append('\n');
+        for (int i = 0; i < fields; i++) {
+            switch (random.nextInt(3)) {
+                case 0 -> game.append("P\n");
+                case 1 -> game.append("S ").append(100 + random.nextInt(400)).append('\n');
+                default -> game.append("L ").append(100 + random.nextInt(400)).append('\n');
+            }
+        }
+        game.append("3\nGabriel Greedy\nCara Careful\nThomas Tactical\n1000\n");
+        Files.writeString(textFile, game);
+        GameFileParser.writeBinary(textFile.toString(), binaryFile.toString());
+    }
+
+    @Benchmark
+    public int readText() throws IOException {
+        return GameFileParser.read(textFile.toString()).getNumberOfFields();
+    }
+
+    @Benchmark
+    public int readBinary() throws IOException {
+        return GameFileParser.read(binaryFile.toString()).getNumberOfFields();
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import game.model.GameLogic;
+import game.view.GameConfig;
+import game.view.GameRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders one tick of a long snake on a 100x100 grid, redrawing only the changed cells or the whole board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    private static final int UNIT_SIZE = 25;
+    private static final int GRID_SIZE = 100;
+
+    @Param({"100", "2000", "8000"})
+    public int length;
+
+    private GameLogic gameLogic;
+    private GameRenderer renderer;
+    private char direction = 'U';
+
+    @Setup
+    public void setUp() {
+        GameConfig config = new GameConfig(GRID_SIZE * UNIT_SIZE, GRID_SIZE * UNIT_SIZE, UNIT_SIZE);
+        gameLogic = new GameLogic(config);
+        gameLogic.startGame();
+        gameLogic.restore(SnakeBenchmark.layOutSnake(gameLogic, GRID_SIZE, UNIT_SIZE, length));
+        renderer = new GameRenderer(config);
+        renderer.render(gameLogic);
+    }
+
+    @Benchmark
+    public Rectangle renderChanges() {
+        move();
+        return renderer.render(gameLogic);
+    }
+
+    @Benchmark
+    public Rectangle renderAll() {
+        move();
+        renderer.invalidate();
+        return renderer.render(gameLogic);
+    }
+
+    /**
+     * The snake moves up and down in turns, so it stays on the board however long the benchmark runs.
+     */
+    private void move() {
+        direction = direction == 'U' ? 'D' : 'U';
+        gameLogic.setDirection(direction);
+        gameLogic.move();
+    }
+}
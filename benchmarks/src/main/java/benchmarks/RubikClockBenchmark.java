@@ -0,0 +1,98 @@
+package benchmarks;
+
+import gameLogic.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clicks the buttons of a Rubik's Clock board and checks whether it is solved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RubikClockBenchmark {
+    private static final int JOURNAL_CLICKS = 30000;
+
+    @Param({"3", "100", "1000"})
+    public int size;
+
+    private Board board;
+    private Board solvedBoard;
+    private Board journalBoard;
+    private int nextButton;
+
+    @Setup
+    public void setUp() {
+        board = new Board(size);
+        solvedBoard = new Board(size);
+        for (int click = 0; click < 12; click++) {
+            for (int button = 0; button < solvedBoard.getButtonCount(); button++) {
+                solvedBoard.click(button);
+            }
+        }
+        journalBoard = new Board(size, 1);
+        Random random = new Random(1);
+        for (int click = 0; click < JOURNAL_CLICKS; click++) {
+            journalBoard.click(random.nextInt(journalBoard.getButtonCount()));
+        }
+    }
+
+    /**
+     * The click is undone again, so the journal does not grow however long the benchmark runs.
+     */
+    @Benchmark
+    public void clickAndUndo() {
+        board.click(nextButton);
+        board.undo();
+        nextButton = (nextButton + 1) % board.getButtonCount();
+    }
+
+    /**
+     * A solved board used to be the worst case; the board now keeps count of its maxed clocks.
+     */
+    @Benchmark
+    public boolean allClocksAreMaxed() {
+        return solvedBoard.allClocksAreMaxed();
+    }
+
+    /**
+     * Resetting after a click only restores the words the click changed, however large the board is.
+     */
+    @Benchmark
+    public void clickAndRefreshGame() {
+        board.click(nextButton);
+        nextButton = (nextButton + 1) % board.getButtonCount();
+        board.refreshGame();
+    }
+
+    /**
+     * Jumps back and forth between a third and two thirds of a long journal; the jump starts from the nearest
+     * checkpoint when that is closer than the current ply.
+     */
+    @Benchmark
+    public int jumpTo() {
+        int ply = journalBoard.getJournal().getPly() == JOURNAL_CLICKS / 3 ? JOURNAL_CLICKS * 2 / 3 : JOURNAL_CLICKS / 3;
+        journalBoard.jumpTo(ply);
+        return journalBoard.getClickCount();
+    }
+
+    @Benchmark
+    public Board copy() {
+        return board.copy();
+    }
+}
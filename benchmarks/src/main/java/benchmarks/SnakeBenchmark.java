@@ -0,0 +1,83 @@
+package benchmarks;
+
+import game.model.GameLogic;
+import game.model.PlayerSave;
+import game.view.GameConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves a long snake and checks it for collisions on a 100x100 grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnakeBenchmark {
+    private static final int UNIT_SIZE = 25;
+    private static final int GRID_SIZE = 100;
+
+    @Param({"100", "2000", "8000"})
+    public int length;
+
+    private GameLogic gameLogic;
+    private char direction = 'U';
+
+    @Setup
+    public void setUp() {
+        gameLogic = new GameLogic(new GameConfig(GRID_SIZE * UNIT_SIZE, GRID_SIZE * UNIT_SIZE, UNIT_SIZE));
+        gameLogic.startGame();
+        gameLogic.restore(layOutSnake(gameLogic, GRID_SIZE, UNIT_SIZE, length));
+    }
+
+    /**
+     * Lays the body out row by row from the bottom of the grid and puts the head on the first cell of the top row
+     * without an obstacle, so the snake does not collide with anything.
+     */
+    static PlayerSave layOutSnake(GameLogic gameLogic, int gridSize, int unitSize, int length) {
+        int[] x = new int[gridSize * gridSize];
+        int[] y = new int[gridSize * gridSize];
+        for (int i = 1; i < length; i++) {
+            int row = gridSize - 1 - (i - 1) / gridSize;
+            int column = (i - 1) % gridSize;
+            x[i] = (row % 2 == 0 ? column : gridSize - 1 - column) * unitSize;
+            y[i] = row * unitSize;
+        }
+        for (int column = 0; column < gridSize; column++) {
+            if (!gameLogic.getObstacles().contains(new Point(column, 0))) {
+                x[0] = column * unitSize;
+                break;
+            }
+        }
+        return new PlayerSave("Benchmark", x, y, length, 0, 'U', gameLogic.getObstacles());
+    }
+
+    /**
+     * The snake moves up and down in turns, so it stays on the board however long the benchmark runs.
+     */
+    @Benchmark
+    public void move() {
+        direction = direction == 'U' ? 'D' : 'U';
+        gameLogic.setDirection(direction);
+        gameLogic.move();
+    }
+
+    @Benchmark
+    public boolean checkCollisions() {
+        return gameLogic.checkCollisions();
+    }
+}